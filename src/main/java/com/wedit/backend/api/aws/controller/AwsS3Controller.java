@@ -1,7 +1,16 @@
 package com.wedit.backend.api.aws.controller;
 
+import com.wedit.backend.api.aws.dto.AwsS3BatchRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartAbortRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartCompleteRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartCompleteResponseDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartPartUrlRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartPartUrlResponseDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartStartRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartStartResponseDTO;
 import com.wedit.backend.api.aws.dto.AwsS3RequestDTO;
 import com.wedit.backend.api.aws.dto.AwsS3ResponseDTO;
+import com.wedit.backend.api.aws.service.AwsS3MultipartService;
 import com.wedit.backend.api.aws.service.AwsS3Service;
 import com.wedit.backend.common.response.ApiResponse;
 import com.wedit.backend.common.response.SuccessStatus;
@@ -15,6 +24,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "AWS S3", description = "AWS S3 미디어 API 입니다.")
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AwsS3Controller {
 
     private final AwsS3Service awsS3Service;
+    private final AwsS3MultipartService awsS3MultipartService;
 
     @Operation(summary = "Presigned URL 단건 발급",
             description = "이미지 업로드를 위한 AWS S3 Presigned URL를 발급합니다. 클라이언트는 응답받은 URL로 PUT 요청을 보내 이미지를 업로드해야 합니다.")
@@ -33,4 +45,59 @@ public class AwsS3Controller {
 
         return ApiResponse.success(SuccessStatus.AWS_S3_PRESIGNED_URL_SUCCESS, responseDTO);
     }
+
+    @Operation(summary = "Presigned URL 일괄 발급",
+            description = "여러 이미지 업로드를 위한 AWS S3 Presigned URL을 한 번에 발급합니다. (최대 50개) 응답 순서는 요청한 파일 순서와 같습니다.")
+    @PostMapping("/presigned-urls")
+    public ResponseEntity<ApiResponse<List<AwsS3ResponseDTO>>> generatePresignedUrls(
+            @Valid @RequestBody AwsS3BatchRequestDTO requestDTO
+    ) {
+        List<AwsS3ResponseDTO> responseDTOs = awsS3Service.generatePresignedUrls(requestDTO.files());
+
+        return ApiResponse.success(SuccessStatus.AWS_S3_PRESIGNED_URLS_SUCCESS, responseDTOs);
+    }
+
+    @Operation(summary = "멀티파트 업로드 시작",
+            description = "대용량 파일 업로드를 시작합니다. 파일 크기에 맞춰 계산된 파트 크기와 파트 수를 반환합니다.")
+    @PostMapping("/multipart/start")
+    public ResponseEntity<ApiResponse<AwsS3MultipartStartResponseDTO>> startMultipartUpload(
+            @Valid @RequestBody AwsS3MultipartStartRequestDTO requestDTO
+    ) {
+        AwsS3MultipartStartResponseDTO responseDTO = awsS3MultipartService.startUpload(requestDTO);
+
+        return ApiResponse.success(SuccessStatus.AWS_S3_MULTIPART_START_SUCCESS, responseDTO);
+    }
+
+    @Operation(summary = "멀티파트 파트 URL 발급",
+            description = "파트 업로드용 Presigned URL을 한 번에 최대 100개까지 발급합니다. 실패한 파트만 다시 요청해 이어서 업로드할 수 있습니다.")
+    @PostMapping("/multipart/part-urls")
+    public ResponseEntity<ApiResponse<List<AwsS3MultipartPartUrlResponseDTO>>> generatePartUrls(
+            @Valid @RequestBody AwsS3MultipartPartUrlRequestDTO requestDTO
+    ) {
+        List<AwsS3MultipartPartUrlResponseDTO> responseDTOs = awsS3MultipartService.generatePartUrls(requestDTO);
+
+        return ApiResponse.success(SuccessStatus.AWS_S3_MULTIPART_PART_URLS_SUCCESS, responseDTOs);
+    }
+
+    @Operation(summary = "멀티파트 업로드 완료",
+            description = "업로드한 파트 번호와 ETag 목록으로 업로드를 완료합니다.")
+    @PostMapping("/multipart/complete")
+    public ResponseEntity<ApiResponse<AwsS3MultipartCompleteResponseDTO>> completeMultipartUpload(
+            @Valid @RequestBody AwsS3MultipartCompleteRequestDTO requestDTO
+    ) {
+        AwsS3MultipartCompleteResponseDTO responseDTO = awsS3MultipartService.completeUpload(requestDTO);
+
+        return ApiResponse.success(SuccessStatus.AWS_S3_MULTIPART_COMPLETE_SUCCESS, responseDTO);
+    }
+
+    @Operation(summary = "멀티파트 업로드 중단",
+            description = "진행 중인 업로드를 중단하고 업로드된 파트를 삭제합니다.")
+    @PostMapping("/multipart/abort")
+    public ResponseEntity<ApiResponse<Void>> abortMultipartUpload(
+            @Valid @RequestBody AwsS3MultipartAbortRequestDTO requestDTO
+    ) {
+        awsS3MultipartService.abortUpload(requestDTO);
+
+        return ApiResponse.successOnly(SuccessStatus.AWS_S3_MULTIPART_ABORT_SUCCESS);
+    }
 }
@@ -0,0 +1,19 @@
+package com.wedit.backend.api.aws.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "AWS S3 Presigned URL 일괄 발급 요청 DTO")
+public record AwsS3BatchRequestDTO(
+
+        @NotEmpty(message = "발급할 파일 목록은 필수입니다.")
+        @Size(max = MAX_FILES, message = "한 번에 최대 " + MAX_FILES + "개까지 발급할 수 있습니다.")
+        List<@Valid AwsS3RequestDTO> files
+) {
+
+    public static final int MAX_FILES = 50;
+}
@@ -0,0 +1,14 @@
+package com.wedit.backend.api.aws.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "AWS S3 멀티파트 업로드 중단 요청 DTO")
+public record AwsS3MultipartAbortRequestDTO(
+
+        @NotBlank(message = "파일 키는 필수입니다.")
+        String fileKey,
+
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        String uploadId
+) { }
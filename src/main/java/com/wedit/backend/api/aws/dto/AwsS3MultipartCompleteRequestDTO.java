@@ -0,0 +1,36 @@
+package com.wedit.backend.api.aws.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+@Schema(description = "AWS S3 멀티파트 업로드 완료 요청 DTO")
+public record AwsS3MultipartCompleteRequestDTO(
+
+        @NotBlank(message = "파일 키는 필수입니다.")
+        String fileKey,
+
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        String uploadId,
+
+        @NotEmpty(message = "업로드한 파트 목록은 필수입니다.")
+        List<@Valid Part> parts
+) {
+
+    public record Part(
+
+            @NotNull(message = "파트 번호는 필수입니다.")
+            @Positive
+            @Max(10_000)
+            Integer partNumber,
+
+            @NotBlank(message = "ETag는 필수입니다.")
+            String eTag
+    ) { }
+}
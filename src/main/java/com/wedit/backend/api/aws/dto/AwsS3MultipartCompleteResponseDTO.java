@@ -0,0 +1,10 @@
+package com.wedit.backend.api.aws.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "AWS S3 멀티파트 업로드 완료 응답 DTO")
+public record AwsS3MultipartCompleteResponseDTO(
+        String fileKey,         // DB 저장용 S3 객체 키
+        String cloudFrontUrl    // 조회용 URL
+) {
+}
@@ -0,0 +1,29 @@
+package com.wedit.backend.api.aws.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "AWS S3 멀티파트 파트 URL 발급 요청 DTO")
+public record AwsS3MultipartPartUrlRequestDTO(
+
+        @NotBlank(message = "파일 키는 필수입니다.")
+        String fileKey,
+
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        String uploadId,
+
+        // 실패한 파트만 다시 요청할 수 있도록 번호 목록으로 받음 (이어 올리기)
+        @NotEmpty(message = "파트 번호 목록은 필수입니다.")
+        @Size(max = MAX_PARTS_PER_REQUEST, message = "한 번에 최대 " + MAX_PARTS_PER_REQUEST + "개 파트까지 발급할 수 있습니다.")
+        List<@NotNull @Positive @Max(10_000) Integer> partNumbers
+) {
+
+    public static final int MAX_PARTS_PER_REQUEST = 100;
+}
@@ -0,0 +1,10 @@
+package com.wedit.backend.api.aws.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "AWS S3 멀티파트 파트 URL 응답 DTO")
+public record AwsS3MultipartPartUrlResponseDTO(
+        Integer partNumber,
+        String presignedUrl     // 클라이언트가 파트 데이터를 PUT 요청할 URL, 응답 ETag 헤더를 완료 요청에 전달
+) {
+}
@@ -0,0 +1,24 @@
+package com.wedit.backend.api.aws.dto;
+
+import com.wedit.backend.api.aws.enums.AwsS3Directory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "AWS S3 멀티파트 업로드 시작 요청 DTO")
+public record AwsS3MultipartStartRequestDTO(
+
+        @NotNull(message = "디렉토리명은 필수입니다. (vendors, products)")
+        AwsS3Directory directory,
+
+        @NotBlank(message = "원본 파일명은 필수입니다.")
+        String originalFileName,
+
+        @NotBlank(message = "Content-Type은 필수입니다. (video/mp4)")
+        String contentType,
+
+        @NotNull(message = "Content-Length는 필수입니다.")
+        @Positive(message = "Content-Length는 0보다 커야 합니다.")
+        Long contentLength          // 전체 파일 크기 (byte), 파트 크기 계산에 사용
+) { }
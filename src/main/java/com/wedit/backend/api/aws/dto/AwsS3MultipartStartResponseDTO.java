@@ -0,0 +1,13 @@
+package com.wedit.backend.api.aws.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "AWS S3 멀티파트 업로드 시작 응답 DTO")
+public record AwsS3MultipartStartResponseDTO(
+        String uploadId,        // 파트 URL 발급 / 완료 / 중단 시 사용
+        String fileKey,         // DB 저장용 S3 객체 키
+        Long partSize,          // 마지막 파트를 제외한 파트 크기 (byte)
+        Integer partCount,      // 전체 파트 수
+        String cloudFrontUrl    // 업로드 완료 후 조회용 URL
+) {
+}
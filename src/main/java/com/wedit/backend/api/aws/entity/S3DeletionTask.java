@@ -0,0 +1,62 @@
+package com.wedit.backend.api.aws.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/// S3 객체 삭제 outbox
+/// 삭제할 키를 호출자 트랜잭션 안에서 기록하고, AwsS3DeletionWorker 가 일괄 삭제 후 행을 제거
+/// 최대 시도 횟수를 넘긴 행은 parkedAt 을 기록해 재시도 대상에서 제외 (원인 해결 후 parked_at 을 NULL 로 되돌리면 재시도)
+@Getter
+@Entity
+@Table(name = "s3_deletion_outbox",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_s3_deletion_outbox_file_key", columnNames = {"fileKey"})
+        },
+        indexes = {
+                @Index(name = "idx_s3_deletion_outbox_parked_at_next_attempt_at", columnList = "parkedAt, nextAttemptAt")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class S3DeletionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String fileKey;
+
+    @Column(nullable = false)
+    private Integer attempts;               // 실패 횟수 (재시도 간격 계산용)
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;    // 이 시각 이후 삭제 시도
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime parkedAt;         // dead-letter 전환 시각 (NULL 이면 재시도 대상)
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts = attempts + 1;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    // 최대 시도 횟수 초과, 더 이상 자동 재시도하지 않음
+    public void park(String error, LocalDateTime now) {
+        this.attempts = attempts + 1;
+        this.lastError = truncate(error);
+        this.parkedAt = now;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -13,4 +13,18 @@ public enum AwsS3Directory {
     ;
 
     private final String path;
+
+    // 서비스가 발급한 키 형식인지 확인 ({directory}/{파일명}, 상위 경로 이동 불가)
+    public static boolean isManagedKey(String fileKey) {
+        if (fileKey == null || fileKey.contains("..")) {
+            return false;
+        }
+
+        for (AwsS3Directory directory : values()) {
+            if (fileKey.startsWith(directory.getPath() + "/") && fileKey.length() > directory.getPath().length() + 1) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
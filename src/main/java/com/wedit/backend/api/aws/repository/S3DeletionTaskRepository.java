@@ -0,0 +1,25 @@
+package com.wedit.backend.api.aws.repository;
+
+import com.wedit.backend.api.aws.entity.S3DeletionTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    // 재시도 시각이 지난 작업을 오래된 순으로 조회 (dead-letter 제외)
+    @Query(value = "SELECT * FROM s3_deletion_outbox WHERE parked_at IS NULL AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at, id LIMIT :limit", nativeQuery = true)
+    List<S3DeletionTask> findDueTasks(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 삭제 대기 중인 작업 수
+    long countByParkedAtIsNull();
+
+    // 최대 시도 횟수를 넘겨 자동 재시도가 중단된 작업 수
+    long countByParkedAtIsNotNull();
+}
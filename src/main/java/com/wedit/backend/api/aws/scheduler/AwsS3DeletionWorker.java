@@ -0,0 +1,249 @@
+package com.wedit.backend.api.aws.scheduler;
+
+import com.wedit.backend.api.aws.entity.S3DeletionTask;
+import com.wedit.backend.api.aws.repository.S3DeletionTaskRepository;
+import com.wedit.backend.api.product.repository.ProductMediaRepository;
+import com.wedit.backend.api.vendor.repository.VendorMediaRepository;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/// s3_deletion_outbox 의 삭제 예약을 DeleteObjects(요청당 최대 1000 키)로 일괄 처리
+/// 실패한 키는 지수 백오프로 재시도하며, job_lock 으로 여러 인스턴스 중 하나만 실행
+/// max-attempts 회 실패한 키는 dead-letter(parked_at) 로 전환하고 s3.deletion.parked 지표와 ERROR 로그로 알림
+/// 삭제 직전에 미디어 테이블을 다시 확인해, 예약 이후 등록된 키는 객체를 지우지 않고 예약만 제거
+@Component
+@Slf4j
+public class AwsS3DeletionWorker {
+
+    private static final String JOB_NAME = "s3-deletion-worker";
+    private static final int S3_MAX_KEYS_PER_DELETE = 1000;
+
+    private final S3Client s3Client;
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final VendorMediaRepository vendorMediaRepository;
+    private final ProductMediaRepository productMediaRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong parkedDepth = new AtomicLong();
+    private final Counter deletedObjects;
+    private final Counter failedObjects;
+    private final Counter parkedObjects;
+    private final Counter skippedObjects;
+    private final Timer batchDuration;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.deletion.batch-size:1000}")
+    private Integer batchSize;
+
+    @Value("${cloud.aws.s3.deletion.max-batches-per-run:20}")
+    private Integer maxBatchesPerRun;
+
+    @Value("${cloud.aws.s3.deletion.base-backoff-seconds:30}")
+    private Long baseBackoffSeconds;
+
+    @Value("${cloud.aws.s3.deletion.max-backoff-seconds:21600}")
+    private Long maxBackoffSeconds;
+
+    @Value("${cloud.aws.s3.deletion.max-attempts:10}")
+    private Integer maxAttempts;
+
+    public AwsS3DeletionWorker(S3Client s3Client,
+                               S3DeletionTaskRepository s3DeletionTaskRepository,
+                               VendorMediaRepository vendorMediaRepository,
+                               ProductMediaRepository productMediaRepository,
+                               JobLockService jobLockService,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.s3DeletionTaskRepository = s3DeletionTaskRepository;
+        this.vendorMediaRepository = vendorMediaRepository;
+        this.productMediaRepository = productMediaRepository;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = transactionTemplate;
+
+        // 스크레이프마다 DB 를 조회하지 않도록 실행 시점의 값을 노출
+        Gauge.builder("s3.deletion.queue.depth", queueDepth, AtomicLong::get)
+                .description("삭제 대기 중인 S3 객체 수")
+                .register(meterRegistry);
+        this.deletedObjects = Counter.builder("s3.deletion.deleted")
+                .description("삭제된 S3 객체 수")
+                .register(meterRegistry);
+        this.failedObjects = Counter.builder("s3.deletion.failed")
+                .description("삭제 실패(재시도 예약) S3 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.parked.depth", parkedDepth, AtomicLong::get)
+                .description("재시도가 중단된(dead-letter) S3 삭제 작업 수")
+                .register(meterRegistry);
+        this.parkedObjects = Counter.builder("s3.deletion.parked")
+                .description("최대 시도 횟수를 넘겨 dead-letter 로 전환된 S3 객체 수")
+                .register(meterRegistry);
+        this.skippedObjects = Counter.builder("s3.deletion.skipped")
+                .description("삭제 예약 이후 미디어로 등록되어 삭제하지 않은 S3 객체 수")
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("s3.deletion.batch.duration")
+                .description("DeleteObjects 요청 1회 처리 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.deletion.poll-interval-ms:10000}")
+    public void drain() {
+
+        if (!jobLockService.tryLock(JOB_NAME, Duration.ofMinutes(5))) {
+            return;
+        }
+
+        try {
+            int limit = Math.min(batchSize, S3_MAX_KEYS_PER_DELETE);
+
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<S3DeletionTask> tasks = s3DeletionTaskRepository.findDueTasks(LocalDateTime.now(), limit);
+                if (tasks.isEmpty()) {
+                    break;
+                }
+
+                batchDuration.record(() -> deleteBatch(tasks));
+
+                if (tasks.size() < limit) {
+                    break;
+                }
+            }
+
+            queueDepth.set(s3DeletionTaskRepository.countByParkedAtIsNull());
+            parkedDepth.set(s3DeletionTaskRepository.countByParkedAtIsNotNull());
+        } finally {
+            jobLockService.unlock(JOB_NAME);
+        }
+    }
+
+    private void deleteBatch(List<S3DeletionTask> dueTasks) {
+
+        // 고아 점검(유예 기간 경과) 후 예약된 키가 그 사이 업체/상품 미디어로 등록될 수 있으므로 삭제 직전에 다시 대조
+        Set<String> referencedKeys = findReferencedKeys(dueTasks);
+        List<Long> skippedIds = new ArrayList<>();
+        List<S3DeletionTask> tasks = new ArrayList<>();
+        for (S3DeletionTask task : dueTasks) {
+            if (referencedKeys.contains(task.getFileKey())) {
+                skippedIds.add(task.getId());
+            } else {
+                tasks.add(task);
+            }
+        }
+
+        Map<String, String> failedKeys = tasks.isEmpty() ? Map.of() : deleteObjects(tasks);
+
+        List<Long> succeededIds = new ArrayList<>();
+        List<S3DeletionTask> failedTasks = new ArrayList<>();
+        List<S3DeletionTask> parkedTasks = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (S3DeletionTask task : tasks) {
+            String error = failedKeys.get(task.getFileKey());
+            if (error == null) {
+                succeededIds.add(task.getId());
+            } else if (task.getAttempts() + 1 >= maxAttempts) {
+                task.park(error, now);
+                parkedTasks.add(task);
+            } else {
+                task.recordFailure(error, now.plus(backoff(task.getAttempts())));
+                failedTasks.add(task);
+            }
+        }
+
+        List<Long> completedIds = new ArrayList<>(succeededIds);
+        completedIds.addAll(skippedIds);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completedIds.isEmpty()) {
+                s3DeletionTaskRepository.deleteAllByIdInBatch(completedIds);
+            }
+            if (!failedTasks.isEmpty() || !parkedTasks.isEmpty()) {
+                s3DeletionTaskRepository.saveAll(failedTasks);
+                s3DeletionTaskRepository.saveAll(parkedTasks);
+            }
+        });
+
+        deletedObjects.increment(succeededIds.size());
+        skippedObjects.increment(skippedIds.size());
+        failedObjects.increment(failedTasks.size());
+        parkedObjects.increment(parkedTasks.size());
+
+        if (!skippedIds.isEmpty()) {
+            log.info("[S3] 미디어로 등록된 파일, 삭제 예약 취소 - {} 건", skippedIds.size());
+        }
+        if (!failedTasks.isEmpty()) {
+            log.warn("[S3] 파일 삭제 실패, 재시도 예약 - {} 건", failedTasks.size());
+        }
+        for (S3DeletionTask task : parkedTasks) {
+            log.error("[S3] 파일 삭제 {} 회 실패, 재시도 중단(dead-letter) - fileKey: {}, error: {}",
+                    task.getAttempts(), task.getFileKey(), task.getLastError());
+        }
+    }
+
+    private Set<String> findReferencedKeys(List<S3DeletionTask> tasks) {
+        List<String> fileKeys = tasks.stream()
+                .map(S3DeletionTask::getFileKey)
+                .toList();
+
+        Set<String> referencedKeys = new HashSet<>(vendorMediaRepository.findExistingFileKeys(fileKeys));
+        referencedKeys.addAll(productMediaRepository.findExistingFileKeys(fileKeys));
+        return referencedKeys;
+    }
+
+    // 실패한 키와 사유 반환 (요청 자체가 실패하면 전체 키)
+    private Map<String, String> deleteObjects(List<S3DeletionTask> tasks) {
+
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(tasks.stream()
+                                    .map(task -> ObjectIdentifier.builder().key(task.getFileKey()).build())
+                                    .toList())
+                            .quiet(true)    // 실패한 키만 응답
+                            .build())
+                    .build());
+
+            return response.errors().stream()
+                    .collect(Collectors.toMap(S3Error::key, error -> error.code() + ": " + error.message(), (a, b) -> a));
+        } catch (Exception e) {
+            // 요청 자체가 실패하면 전체 재시도
+            log.warn("[S3] 일괄 삭제 요청 실패 - {} 건 : {}", tasks.size(), e.getMessage());
+            return tasks.stream()
+                    .collect(Collectors.toMap(S3DeletionTask::getFileKey, task -> e.getClass().getSimpleName(), (a, b) -> a));
+        }
+    }
+
+    // base * 2^attempts, 최대 max-backoff-seconds
+    private Duration backoff(int attempts) {
+        long seconds = baseBackoffSeconds << Math.min(attempts, 20);
+        return Duration.ofSeconds(Math.min(seconds, maxBackoffSeconds));
+    }
+}
@@ -0,0 +1,112 @@
+package com.wedit.backend.api.aws.scheduler;
+
+import com.wedit.backend.api.aws.enums.AwsS3Directory;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/// 완료/중단되지 않고 방치된 멀티파트 업로드 정리 (업로드된 파트는 중단 전까지 저장 비용 발생)
+/// 버킷 수명 주기 규칙(AbortIncompleteMultipartUpload)이 없는 환경에서도 동작하도록 애플리케이션에서 수행하며,
+/// job_lock 으로 여러 인스턴스 중 하나만 실행
+@Component
+@Slf4j
+public class AwsS3MultipartCleanupScheduler {
+
+    private static final String JOB_NAME = "s3-multipart-cleanup";
+
+    private final S3Client s3Client;
+    private final JobLockService jobLockService;
+    private final Counter abortedUploads;
+    private final Counter failedUploads;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.multipart.stale-after-hours:24}")
+    private Long staleAfterHours;
+
+    @Value("${cloud.aws.s3.multipart.cleanup.max-run-minutes:30}")
+    private Long maxRunMinutes;
+
+    public AwsS3MultipartCleanupScheduler(S3Client s3Client,
+                                          JobLockService jobLockService,
+                                          MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.jobLockService = jobLockService;
+        this.abortedUploads = Counter.builder("s3.multipart.cleanup.aborted")
+                .description("방치되어 중단된 멀티파트 업로드 수")
+                .register(meterRegistry);
+        this.failedUploads = Counter.builder("s3.multipart.cleanup.failed")
+                .description("중단 요청에 실패한 멀티파트 업로드 수 (다음 주기에 재시도)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${cloud.aws.s3.multipart.cleanup.cron:0 0 5 * * *}")
+    public void abortStaleUploads() {
+
+        if (!jobLockService.tryLock(JOB_NAME, Duration.ofMinutes(maxRunMinutes))) {
+            return;
+        }
+
+        try {
+            Instant cutoff = Instant.now().minus(Duration.ofHours(staleAfterHours));
+            long total = 0;
+
+            for (AwsS3Directory directory : AwsS3Directory.values()) {
+                total += abortStaleUploads(directory.getPath() + "/", cutoff);
+            }
+
+            log.info("[S3] 방치된 멀티파트 업로드 정리 완료 - {} 건", total);
+        } finally {
+            jobLockService.unlock(JOB_NAME);
+        }
+    }
+
+    private long abortStaleUploads(String prefix, Instant cutoff) {
+        long aborted = 0;
+
+        ListMultipartUploadsRequest request = ListMultipartUploadsRequest.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .build();
+
+        for (MultipartUpload upload : s3Client.listMultipartUploadsPaginator(request).uploads()) {
+            if (!upload.initiated().isBefore(cutoff)) {
+                continue;
+            }
+
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(upload.key())
+                        .uploadId(upload.uploadId())
+                        .build());
+                aborted++;
+                abortedUploads.increment();
+            } catch (NoSuchUploadException e) {
+                // 그 사이 완료/중단된 업로드
+                log.debug("[S3] 이미 종료된 멀티파트 업로드 - fileKey: {}", upload.key());
+            } catch (S3Exception e) {
+                // 권한/스로틀링 등 한 건의 실패로 나머지 정리가 중단되지 않도록 기록 후 계속 진행
+                failedUploads.increment();
+                log.warn("[S3] 멀티파트 업로드 중단 실패 - fileKey: {}, uploadId: {}, status: {}",
+                        upload.key(), upload.uploadId(), e.statusCode(), e);
+            }
+        }
+
+        return aborted;
+    }
+}
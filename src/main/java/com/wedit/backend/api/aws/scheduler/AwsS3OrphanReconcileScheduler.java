@@ -0,0 +1,150 @@
+package com.wedit.backend.api.aws.scheduler;
+
+import com.wedit.backend.api.aws.enums.AwsS3Directory;
+import com.wedit.backend.api.aws.service.AwsS3Service;
+import com.wedit.backend.api.product.repository.ProductMediaRepository;
+import com.wedit.backend.api.vendor.repository.VendorMediaRepository;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/// S3 객체와 미디어 테이블(vendor_media, product_media) 간 고아 객체 정리
+/// 디렉토리별 ListObjectsV2 페이지(최대 1000 키) 단위로 IN 조회하여 대조하므로 객체 수와 무관하게 메모리 사용량이 일정하고,
+/// 유예 기간이 지난 미등록 객체만 삭제 outbox 에 예약
+@Component
+@Slf4j
+public class AwsS3OrphanReconcileScheduler {
+
+    private static final String JOB_NAME = "s3-orphan-reconcile";
+
+    private final S3Client s3Client;
+    private final AwsS3Service awsS3Service;
+    private final VendorMediaRepository vendorMediaRepository;
+    private final ProductMediaRepository productMediaRepository;
+    private final JobLockService jobLockService;
+
+    private final Counter scannedObjects;
+    private final Counter orphanObjects;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    // 업로드 후 미디어 등록까지 걸리는 시간보다 충분히 길게 설정
+    @Value("${cloud.aws.s3.reconcile.grace-hours:72}")
+    private Long graceHours;
+
+    @Value("${cloud.aws.s3.reconcile.max-run-minutes:60}")
+    private Long maxRunMinutes;
+
+    // true 면 고아 객체 수만 집계하고 삭제 예약하지 않음
+    @Value("${cloud.aws.s3.reconcile.dry-run:false}")
+    private Boolean dryRun;
+
+    public AwsS3OrphanReconcileScheduler(S3Client s3Client,
+                                         AwsS3Service awsS3Service,
+                                         VendorMediaRepository vendorMediaRepository,
+                                         ProductMediaRepository productMediaRepository,
+                                         JobLockService jobLockService,
+                                         MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.awsS3Service = awsS3Service;
+        this.vendorMediaRepository = vendorMediaRepository;
+        this.productMediaRepository = productMediaRepository;
+        this.jobLockService = jobLockService;
+        this.scannedObjects = Counter.builder("s3.reconcile.scanned")
+                .description("점검한 S3 객체 수")
+                .register(meterRegistry);
+        this.orphanObjects = Counter.builder("s3.reconcile.orphans")
+                .description("발견된 고아 S3 객체 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${cloud.aws.s3.reconcile.cron:0 0 3 * * SUN}")
+    public void reconcile() {
+
+        Duration maxRun = Duration.ofMinutes(maxRunMinutes);
+        if (!jobLockService.tryLock(JOB_NAME, maxRun)) {
+            return;
+        }
+
+        try {
+            Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+            long deadline = System.nanoTime() + maxRun.toNanos();
+            long total = 0;
+
+            for (AwsS3Directory directory : AwsS3Directory.values()) {
+                total += reconcile(directory.getPath() + "/", cutoff, deadline);
+            }
+
+            log.info("[S3] 고아 객체 점검 완료 - {} 건{}", total, dryRun ? " (dry-run)" : "");
+        } finally {
+            jobLockService.unlock(JOB_NAME);
+        }
+    }
+
+    private long reconcile(String prefix, Instant cutoff, long deadline) {
+        long orphans = 0;
+        String continuationToken = null;
+
+        do {
+            if (System.nanoTime() > deadline || Thread.currentThread().isInterrupted()) {
+                log.warn("[S3] 고아 객체 점검 시간 초과 - prefix: {}", prefix);
+                break;
+            }
+
+            ListObjectsV2Response page = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .continuationToken(continuationToken)
+                    .build());
+
+            scannedObjects.increment(page.keyCount());
+            orphans += enqueueOrphans(page.contents(), cutoff);
+            continuationToken = page.nextContinuationToken();
+        } while (continuationToken != null);
+
+        return orphans;
+    }
+
+    // 페이지 단위로 미디어 테이블과 대조 (유예 기간/dry-run 검증을 위해 package-private)
+    int enqueueOrphans(List<S3Object> objects, Instant cutoff) {
+        Set<String> candidates = new HashSet<>();
+        for (S3Object object : objects) {
+            if (object.lastModified().isBefore(cutoff)) {
+                candidates.add(object.key());
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        vendorMediaRepository.findExistingFileKeys(candidates).forEach(candidates::remove);
+        if (!candidates.isEmpty()) {
+            productMediaRepository.findExistingFileKeys(candidates).forEach(candidates::remove);
+        }
+
+        if (!candidates.isEmpty()) {
+            orphanObjects.increment(candidates.size());
+            if (!dryRun) {
+                awsS3Service.deleteFiles(candidates);
+            }
+        }
+
+        return candidates.size();
+    }
+}
@@ -0,0 +1,181 @@
+package com.wedit.backend.api.aws.service;
+
+import com.wedit.backend.api.aws.dto.AwsS3MultipartAbortRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartCompleteRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartCompleteResponseDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartPartUrlRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartPartUrlResponseDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartStartRequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3MultipartStartResponseDTO;
+import com.wedit.backend.api.aws.enums.AwsS3Directory;
+import com.wedit.backend.common.exception.BadRequestException;
+import com.wedit.backend.common.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/// 대용량 미디어(영상, RAW 사진) 멀티파트 업로드
+/// 시작 -> 파트 URL 일괄 발급(실패 파트만 재발급 가능) -> 완료 / 중단 순서로 진행
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AwsS3MultipartService {
+
+    private static final long MIB = 1024L * 1024L;
+    private static final long S3_MIN_PART_SIZE = 5 * MIB;
+    private static final int S3_MAX_PARTS = 10_000;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final AwsS3Service awsS3Service;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.presign.expiration-minutes}")
+    private Integer expirationMinutes;
+
+    @Value("${cloud.aws.s3.multipart.min-part-size-mb:8}")
+    private Long minPartSizeMb;
+
+    @Value("${cloud.aws.s3.multipart.max-content-length-mb:20480}")
+    private Long maxContentLengthMb;
+
+    // 멀티파트 업로드 시작
+    public AwsS3MultipartStartResponseDTO startUpload(AwsS3MultipartStartRequestDTO requestDTO) {
+
+        if (requestDTO.contentLength() > maxContentLengthMb * MIB) {
+            throw new BadRequestException("업로드 가능한 최대 파일 크기를 초과했습니다.");
+        }
+
+        String fileKey = awsS3Service.buildFileKey(
+                requestDTO.directory().getPath(),
+                requestDTO.originalFileName()
+        );
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey)
+                .contentType(requestDTO.contentType())
+                .build()).uploadId();
+
+        long partSize = partSizeFor(requestDTO.contentLength());
+        int partCount = (int) Math.ceilDiv(requestDTO.contentLength(), partSize);
+
+        log.info("[S3] 멀티파트 업로드 시작 - fileKey: {}, partSize: {}, partCount: {}",
+                fileKey, partSize, partCount);
+
+        return new AwsS3MultipartStartResponseDTO(
+                uploadId, fileKey, partSize, partCount, awsS3Service.toCloudFrontUrl(fileKey));
+    }
+
+    // 파트 업로드 URL 일괄 발급
+    public List<AwsS3MultipartPartUrlResponseDTO> generatePartUrls(AwsS3MultipartPartUrlRequestDTO requestDTO) {
+
+        validateFileKey(requestDTO.fileKey());
+        Duration signatureDuration = Duration.ofMinutes(expirationMinutes);
+
+        return requestDTO.partNumbers().stream()
+                .distinct()
+                .sorted()
+                .map(partNumber -> new AwsS3MultipartPartUrlResponseDTO(
+                        partNumber,
+                        s3Presigner.presignUploadPart(UploadPartPresignRequest.builder()
+                                .signatureDuration(signatureDuration)
+                                .uploadPartRequest(UploadPartRequest.builder()
+                                        .bucket(bucketName)
+                                        .key(requestDTO.fileKey())
+                                        .uploadId(requestDTO.uploadId())
+                                        .partNumber(partNumber)
+                                        .build())
+                                .build()).url().toString()))
+                .toList();
+    }
+
+    // 업로드 완료 (파트 번호 순으로 병합)
+    public AwsS3MultipartCompleteResponseDTO completeUpload(AwsS3MultipartCompleteRequestDTO requestDTO) {
+
+        validateFileKey(requestDTO.fileKey());
+
+        List<CompletedPart> parts = requestDTO.parts().stream()
+                .sorted(Comparator.comparing(AwsS3MultipartCompleteRequestDTO.Part::partNumber))
+                .map(part -> CompletedPart.builder()
+                        .partNumber(part.partNumber())
+                        .eTag(part.eTag())
+                        .build())
+                .toList();
+
+        if (parts.stream().map(CompletedPart::partNumber).distinct().count() != parts.size()) {
+            throw new BadRequestException("중복된 파트 번호가 있습니다.");
+        }
+
+        try {
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(requestDTO.fileKey())
+                    .uploadId(requestDTO.uploadId())
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (NoSuchUploadException e) {
+            throw new NotFoundException("존재하지 않거나 이미 종료된 업로드입니다.");
+        } catch (S3Exception e) {
+            // InvalidPart, InvalidPartOrder, EntityTooSmall 등 클라이언트 입력 오류
+            if (e.statusCode() == 400) {
+                throw new BadRequestException("업로드한 파트 정보가 올바르지 않습니다.");
+            }
+            throw e;
+        }
+
+        log.info("[S3] 멀티파트 업로드 완료 - fileKey: {}, parts: {}", requestDTO.fileKey(), parts.size());
+
+        return new AwsS3MultipartCompleteResponseDTO(
+                requestDTO.fileKey(), awsS3Service.toCloudFrontUrl(requestDTO.fileKey()));
+    }
+
+    // 업로드 중단 (업로드된 파트 삭제), 이미 종료된 업로드는 성공으로 처리
+    public void abortUpload(AwsS3MultipartAbortRequestDTO requestDTO) {
+
+        validateFileKey(requestDTO.fileKey());
+
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(requestDTO.fileKey())
+                    .uploadId(requestDTO.uploadId())
+                    .build());
+            log.info("[S3] 멀티파트 업로드 중단 - fileKey: {}", requestDTO.fileKey());
+        } catch (NoSuchUploadException e) {
+            log.debug("[S3] 이미 종료된 멀티파트 업로드 - fileKey: {}", requestDTO.fileKey());
+        }
+    }
+
+    // 파트 수가 S3 최대치(10,000)를 넘지 않도록 파일 크기에 맞춰 파트 크기 결정 (MiB 단위 올림)
+    long partSizeFor(long contentLength) {
+        long minPartSize = Math.max(S3_MIN_PART_SIZE, minPartSizeMb * MIB);
+        long required = Math.ceilDiv(contentLength, S3_MAX_PARTS);
+        long partSize = Math.max(minPartSize, required);
+        return Math.ceilDiv(partSize, MIB) * MIB;
+    }
+
+    private void validateFileKey(String fileKey) {
+        if (!AwsS3Directory.isManagedKey(fileKey)) {
+            throw new BadRequestException("올바르지 않은 파일 키입니다.");
+        }
+    }
+}
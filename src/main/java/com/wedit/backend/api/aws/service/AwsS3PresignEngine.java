@@ -0,0 +1,216 @@
+package com.wedit.backend.api.aws.service;
+
+import com.wedit.backend.common.config.aws.RefreshAheadCredentialsProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.regions.PartitionMetadata;
+import software.amazon.awssdk.regions.Region;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+
+/// S3 PUT presigned URL 을 SigV4 쿼리 서명으로 직접 생성 (cloud.aws.s3.presign.engine=native)
+/// SDK presigner 대비 요청 객체 생성 없이, 날짜/리전별 서명 키와 스레드별 Mac/MessageDigest 를 재사용
+/// 서명 대상 헤더는 content-type, host 이므로 업로드 시 발급 요청과 같은 Content-Type 을 보내야 함
+/// 엔드포인트 도메인은 리전의 파티션에서 가져오며, aws 파티션 외(중국, GovCloud 등)는 SDK presigner 로 서명 (supportsRegion)
+@Component
+public class AwsS3PresignEngine {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final String TERMINATOR = "aws4_request";
+    private static final String AWS_PARTITION = "aws";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final AwsCredentialsProvider awsCredentialsProvider;
+    private final String region;
+    private final String bucketName;
+    private final Clock clock;
+
+    // 리전 파티션 정보 (예: aws -> amazonaws.com)
+    private final boolean supportsRegion;
+    private final String dnsSuffix;
+
+    // 서명 키는 날짜 + 리전 + 자격 증명이 같으면 재사용 (하루 1회 파생)
+    private volatile SigningKey signingKey;
+
+    @Autowired
+    public AwsS3PresignEngine(RefreshAheadCredentialsProvider awsCredentialsProvider,
+                              @Value("${cloud.aws.region.static}") String region,
+                              @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        this(awsCredentialsProvider, region, bucketName, Clock.systemUTC());
+    }
+
+    // 서명 시각 고정용 (테스트에서 Clock 주입)
+    AwsS3PresignEngine(AwsCredentialsProvider awsCredentialsProvider, String region, String bucketName, Clock clock) {
+        this.awsCredentialsProvider = awsCredentialsProvider;
+        this.region = region;
+        this.bucketName = bucketName;
+        this.clock = clock;
+
+        PartitionMetadata partition = PartitionMetadata.of(Region.of(region));
+        this.supportsRegion = AWS_PARTITION.equals(partition.id());
+        this.dnsSuffix = partition.dnsSuffix();
+    }
+
+    // aws 파티션 리전만 직접 서명 (그 외 파티션은 엔드포인트 규칙이 달라 SDK presigner 사용)
+    public boolean supportsRegion() {
+        return supportsRegion;
+    }
+
+    public String presignPut(String fileKey, String contentType, Duration expiration) {
+
+        // 점이 포함된 버킷은 가상 호스트 방식에서 TLS 인증서가 맞지 않으므로 경로 방식 사용
+        boolean pathStyle = bucketName.indexOf('.') >= 0;
+        String host = pathStyle
+                ? "s3." + region + "." + dnsSuffix
+                : bucketName + ".s3." + region + "." + dnsSuffix;
+
+        StringBuilder uri = new StringBuilder(fileKey.length() + bucketName.length() + 8).append('/');
+        if (pathStyle) {
+            uriEncode(uri, bucketName, false).append('/');
+        }
+        uriEncode(uri, fileKey, true);
+
+        return presign("PUT", host, uri.toString(), contentType.strip(), expiration);
+    }
+
+    /// SigV4 쿼리 서명 URL 생성
+    /// contentType 이 null 이면 host 헤더만 서명
+    /// @param encodedPath URI 인코딩된 경로
+    String presign(String method, String host, String encodedPath, String contentType, Duration expiration) {
+
+        AwsCredentials credentials = awsCredentialsProvider.resolveCredentials();
+        Instant now = clock.instant();
+        String date = DATE_FORMAT.format(now);
+        String amzDate = DATE_TIME_FORMAT.format(now);
+        String scope = date + "/" + region + "/" + SERVICE + "/" + TERMINATOR;
+        String signedHeaders = contentType != null ? "content-type;host" : "host";
+
+        // 쿼리 파라미터는 이름순 정렬 상태로 작성
+        StringBuilder query = new StringBuilder(512)
+                .append("X-Amz-Algorithm=").append(ALGORITHM)
+                .append("&X-Amz-Credential=");
+        uriEncode(query, credentials.accessKeyId() + "/" + scope, false)
+                .append("&X-Amz-Date=").append(amzDate)
+                .append("&X-Amz-Expires=").append(expiration.toSeconds());
+        if (credentials instanceof AwsSessionCredentials sessionCredentials) {
+            query.append("&X-Amz-Security-Token=");
+            uriEncode(query, sessionCredentials.sessionToken(), false);
+        }
+        query.append("&X-Amz-SignedHeaders=");
+        uriEncode(query, signedHeaders, false);
+
+        StringBuilder canonicalRequest = new StringBuilder(encodedPath.length() + query.length() + 256)
+                .append(method).append('\n')
+                .append(encodedPath).append('\n')
+                .append(query).append('\n');
+        if (contentType != null) {
+            canonicalRequest.append("content-type:").append(contentType).append('\n');
+        }
+        canonicalRequest.append("host:").append(host).append("\n\n")
+                .append(signedHeaders).append('\n')
+                .append(UNSIGNED_PAYLOAD);
+
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n" + sha256Hex(canonicalRequest.toString());
+        String signature = HEX.formatHex(hmac(signingKey(credentials, date), stringToSign));
+
+        return new StringBuilder(host.length() + encodedPath.length() + query.length() + 96)
+                .append("https://").append(host).append(encodedPath)
+                .append('?').append(query)
+                .append("&X-Amz-Signature=").append(signature)
+                .toString();
+    }
+
+    private byte[] signingKey(AwsCredentials credentials, String date) {
+        SigningKey current = signingKey;
+        if (current != null && current.matches(credentials, date, region)) {
+            return current.key();
+        }
+
+        byte[] dateKey = hmac(("AWS4" + credentials.secretAccessKey()).getBytes(StandardCharsets.UTF_8), date);
+        byte[] regionKey = hmac(dateKey, region);
+        byte[] serviceKey = hmac(regionKey, SERVICE);
+        byte[] key = hmac(serviceKey, TERMINATOR);
+
+        signingKey = new SigningKey(credentials.accessKeyId(), credentials.secretAccessKey(), date, region, key);
+        return key;
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = HMAC.get();
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("S3 presign 서명에 실패했습니다.", e);
+        }
+    }
+
+    private static String sha256Hex(String data) {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return HEX.formatHex(digest.digest(data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // RFC 3986 unreserved 문자 외에는 모두 %XX 인코딩 (SigV4 규칙)
+    private static StringBuilder uriEncode(StringBuilder target, String value, boolean keepSlash) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (keepSlash && c == '/')) {
+                target.append(c);
+            } else {
+                target.append('%')
+                        .append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+            }
+        }
+        return target;
+    }
+
+    private record SigningKey(String accessKeyId, String secretAccessKey, String date, String region, byte[] key) {
+
+        boolean matches(AwsCredentials credentials, String date, String region) {
+            return this.date.equals(date)
+                    && this.region.equals(region)
+                    && this.accessKeyId.equals(credentials.accessKeyId())
+                    && this.secretAccessKey.equals(credentials.secretAccessKey());
+        }
+    }
+}
@@ -2,26 +2,43 @@ package com.wedit.backend.api.aws.service;
 
 import com.wedit.backend.api.aws.dto.AwsS3RequestDTO;
 import com.wedit.backend.api.aws.dto.AwsS3ResponseDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AwsS3Service {
 
+    // s3_deletion_outbox 예약 INSERT 1문당 행 수
+    private static final int DELETION_ENQUEUE_CHUNK_SIZE = 500;
+
     private final S3Presigner s3Presigner;
-    private final S3Client s3Client;
+    private final AwsS3PresignEngine awsS3PresignEngine;
+    private final JdbcTemplate jdbcTemplate;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -32,19 +49,111 @@ public class AwsS3Service {
     @Value("${cloud.aws.cloudfront.url}")
     private String cloudFrontBaseUrl;
 
+    // native: 자체 SigV4 엔진 (서명 키 재사용), sdk: S3Presigner
+    @Value("${cloud.aws.s3.presign.engine:native}")
+    private String presignEngine;
+
+    // S3 호환 로컬 저장소(MinIO, LocalStack 등) 또는 aws 외 파티션 리전은 SDK presigner 로 서명
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.presign.batch-threads:4}")
+    private Integer presignThreads;
+
+    @Value("${cloud.aws.s3.presign.batch-queue-capacity:200}")
+    private Integer presignQueueCapacity;
+
+    // 일괄 발급용 서명 스레드 풀 (대기열이 가득 차면 요청 스레드에서 직접 서명)
+    private ThreadPoolExecutor presignExecutor;
+
+    @PostConstruct
+    void initPresignExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        presignExecutor = new ThreadPoolExecutor(
+                presignThreads,
+                presignThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(presignQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-presign-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdownPresignExecutor() {
+        presignExecutor.shutdown();
+    }
 
     // Presigned URL 발급
     public AwsS3ResponseDTO generatePresignedUrl(AwsS3RequestDTO requestDTO) {
 
+        AwsS3ResponseDTO responseDTO = presign(requestDTO);
+
+        log.info("[S3] Presigned URL 발급 - directory: {}, fileKey: {}",
+                requestDTO.directory(), responseDTO.fileKey());
+
+        return responseDTO;
+    }
+
+    // Presigned URL 일괄 발급 (요청 순서대로 반환)
+    public List<AwsS3ResponseDTO> generatePresignedUrls(List<AwsS3RequestDTO> requestDTOs) {
+
+        List<CompletableFuture<AwsS3ResponseDTO>> futures = requestDTOs.stream()
+                .map(requestDTO -> CompletableFuture.supplyAsync(() -> presign(requestDTO), presignExecutor))
+                .toList();
+
+        List<AwsS3ResponseDTO> responseDTOs = futures.stream()
+                .map(AwsS3Service::joinPresign)
+                .toList();
+
+        log.info("[S3] Presigned URL 일괄 발급 - count: {}", responseDTOs.size());
+
+        return responseDTOs;
+    }
+
+    // join 은 서명 중 발생한 예외를 CompletionException 으로 감싸므로,
+    // 원래 예외를 그대로 던져 GlobalExceptionHandler 가 단건 발급과 같은 응답으로 매핑하도록 함
+    private static AwsS3ResponseDTO joinPresign(CompletableFuture<AwsS3ResponseDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private AwsS3ResponseDTO presign(AwsS3RequestDTO requestDTO) {
+
         String fileKey = buildFileKey(
                 requestDTO.directory().getPath(),
                 requestDTO.originalFileName()
         );
 
+        String presignedUrl = "sdk".equals(presignEngine) || !endpoint.isBlank() || !awsS3PresignEngine.supportsRegion()
+                ? presignWithSdk(fileKey, requestDTO.contentType())
+                : awsS3PresignEngine.presignPut(fileKey, requestDTO.contentType(), Duration.ofMinutes(expirationMinutes));
+
+        String cloudFrontUrl = toCloudFrontUrl(fileKey);
+
+        return new AwsS3ResponseDTO(presignedUrl, fileKey, cloudFrontUrl);
+    }
+
+    private String presignWithSdk(String fileKey, String contentType) {
+
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(fileKey)
-                .contentType(requestDTO.contentType())
+                .contentType(contentType)
                 .build();
 
         PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
@@ -52,27 +161,45 @@ public class AwsS3Service {
                 .signatureDuration(Duration.ofMinutes(expirationMinutes))
                 .build();
 
-        String presignedUrl = s3Presigner.presignPutObject(presignRequest).url().toString();
-
-        String cloudFrontUrl = toCloudFrontUrl(fileKey);
-
-        log.info("[S3] Presigned URL 발급 - directory: {}, fileKey: {}",
-                requestDTO.directory(), fileKey);
-
-        return new AwsS3ResponseDTO(presignedUrl, fileKey, cloudFrontUrl);
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
     }
 
-    // S3 파일 단건 삭제
+    // S3 파일 삭제 예약 (호출자 트랜잭션과 함께 커밋, 실제 삭제는 AwsS3DeletionWorker 가 일괄 처리)
+    @Transactional
     public void deleteFile(String fileKey) {
-        try {
-            s3Client.deleteObject(DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileKey)
-                    .build());
-            log.info("[S3] 파일 삭제 성공 - fileKey: {}", fileKey);
-        } catch (Exception e) {
-            log.error("[S3] 파일 삭제 실패 - fileKey: {}", fileKey, e);
+        deleteFiles(List.of(fileKey));
+    }
+
+    // 여러 행 INSERT IGNORE 로 묶어서 예약 (이미 예약된 키는 무시)
+    @Transactional
+    public void deleteFiles(Collection<String> fileKeys) {
+        List<String> keys = fileKeys.stream()
+                .filter(fileKey -> fileKey != null && !fileKey.isBlank())
+                .distinct()
+                .toList();
+        if (keys.isEmpty()) {
+            return;
         }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int enqueued = 0;
+
+        for (int from = 0; from < keys.size(); from += DELETION_ENQUEUE_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + DELETION_ENQUEUE_CHUNK_SIZE, keys.size()));
+
+            StringBuilder sql = new StringBuilder(
+                    "INSERT IGNORE INTO s3_deletion_outbox (file_key, attempts, next_attempt_at, created_at) VALUES ");
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, 0, ?, ?)" : ", (?, 0, ?, ?)");
+                args.add(chunk.get(i));
+                args.add(now);
+                args.add(now);
+            }
+            enqueued += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+
+        log.debug("[S3] 파일 삭제 예약 - {} 건", enqueued);
     }
 
     // https://cloudfront-domain/vendors/{UUID}.jpg
@@ -86,7 +213,7 @@ public class AwsS3Service {
     }
 
     // vendors/{UUID}.jpg
-    private String buildFileKey(String directory, String originalFileName) {
+    String buildFileKey(String directory, String originalFileName) {
 
         String extension = extractExtension(originalFileName);
         return directory + "/" + UUID.randomUUID() + extension;
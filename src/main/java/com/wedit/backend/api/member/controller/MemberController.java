@@ -2,9 +2,11 @@ package com.wedit.backend.api.member.controller;
 
 import com.wedit.backend.api.member.dto.MemberLoginRequestDTO;
 import com.wedit.backend.api.member.dto.MemberLoginResponseDTO;
+import com.wedit.backend.api.member.dto.MemberRoleUpdateRequestDTO;
 import com.wedit.backend.api.member.dto.MemberSignupRequestDTO;
 import com.wedit.backend.api.member.service.MemberService;
 import com.wedit.backend.common.config.security.entity.SecurityMember;
+import com.wedit.backend.common.exception.ServiceUnavailableException;
 import com.wedit.backend.common.response.ApiResponse;
 import com.wedit.backend.common.response.ErrorStatus;
 import com.wedit.backend.common.response.SuccessStatus;
@@ -30,6 +32,9 @@ public class MemberController {
         try {
             memberService.signup(dto);
             return ApiResponse.successOnly(SuccessStatus.MEMBER_SIGNUP_SUCCESS);
+        } catch (ServiceUnavailableException ex) {
+            return ResponseEntity.status(ex.getStatusCode())
+                    .body(ApiResponse.fail(ex.getStatusCode(), ex.getResponseMessage()));
         } catch (IllegalStateException ex) {
             return ResponseEntity.status(ErrorStatus.CONFLICT_DUPLICATE_RESOURCE.getStatusCode())
                     .body(ApiResponse.fail(ErrorStatus.CONFLICT_DUPLICATE_RESOURCE.getStatusCode(), ex.getMessage()));
@@ -37,14 +42,19 @@ public class MemberController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<?>> login(@Valid @RequestBody MemberLoginRequestDTO dto) {
+    public ResponseEntity<ApiResponse<?>> login(
+            @Valid @RequestBody MemberLoginRequestDTO dto,
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceId) {
         try {
-            MemberLoginResponseDTO response = memberService.login(dto);
+            MemberLoginResponseDTO response = memberService.login(dto, deviceId);
             return ResponseEntity
                     .status(SuccessStatus.FORM_LOGIN_SUCCESS.getStatusCode())
                     .header("Authorization", "Bearer " + response.getAccessToken())
                     .header("X-Refresh-Token", "Bearer " + response.getRefreshToken())
                     .body(ApiResponse.success(SuccessStatus.FORM_LOGIN_SUCCESS, response).getBody());
+        } catch (ServiceUnavailableException ex) {
+            return ResponseEntity.status(ex.getStatusCode())
+                    .body(ApiResponse.fail(ex.getStatusCode(), ex.getResponseMessage()));
         } catch (RuntimeException ex) {
             return ResponseEntity.status(ErrorStatus.UNAUTHORIZED_USER.getStatusCode())
                     .body(ApiResponse.fail(ErrorStatus.UNAUTHORIZED_USER.getStatusCode(), ex.getMessage()));
@@ -78,10 +88,18 @@ public class MemberController {
                     .body(ApiResponse.fail(ErrorStatus.UNAUTHORIZED_USER.getStatusCode(), "인증이 필요합니다."));
         }
 
-        memberService.withdraw(securityMember.getMember().getId());
+        memberService.withdraw(securityMember.getMemberId());
         return ApiResponse.successOnly(SuccessStatus.MEMBER_WITHDRAW_SUCCESS);
     }
 
+    // 관리자 전용 (SecurityConfig), 변경 커밋 이후 이전 권한이 담긴 토큰과 회원 캐시를 모든 인스턴스에서 무효화
+    @PatchMapping("/{memberId}/role")
+    public ResponseEntity<ApiResponse<Void>> changeRole(@PathVariable Long memberId,
+                                                        @Valid @RequestBody MemberRoleUpdateRequestDTO dto) {
+        memberService.changeRole(memberId, dto.getRole());
+        return ApiResponse.successOnly(SuccessStatus.MEMBER_ROLE_UPDATE_SUCCESS);
+    }
+
     private Optional<String> extractBearer(String headerValue) {
         if (!StringUtils.hasText(headerValue)) {
             return Optional.empty();
@@ -0,0 +1,14 @@
+package com.wedit.backend.api.member.dto;
+
+import com.wedit.backend.api.member.entity.Role;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MemberRoleUpdateRequestDTO {
+
+    @NotNull
+    private Role role;
+}
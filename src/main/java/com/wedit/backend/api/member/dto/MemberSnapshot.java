@@ -0,0 +1,24 @@
+package com.wedit.backend.api.member.dto;
+
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+
+/// 영속성 컨텍스트와 분리된 Member 불변 스냅샷 (요청/스레드 간 공유 가능)
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String oauthId,
+        String name,
+        Role role
+) {
+
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getEmail(),
+                member.getOauthId(),
+                member.getName(),
+                member.getRole()
+        );
+    }
+}
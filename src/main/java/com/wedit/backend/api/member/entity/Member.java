@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @Table(name = "member")
@@ -44,11 +45,22 @@ public class Member extends BaseTimeEntity {
         this.oauthId = newOauthId;
     }
 
+    // 이름이 같으면 필드를 건드리지 않아 UPDATE 가 발생하지 않음
     public Member update(String name) {
-        this.name = name;
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+        }
         return this;
     }
 
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    public void updateRole(Role role) {
+        this.role = role;
+    }
+
     public void markDeleted() {
         this.deleted = true;
         this.deletedAt = LocalDateTime.now();
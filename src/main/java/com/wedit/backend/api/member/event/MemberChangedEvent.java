@@ -0,0 +1,21 @@
+package com.wedit.backend.api.member.event;
+
+import com.wedit.backend.api.member.entity.Member;
+
+/// 회원 정보(이름, 권한, 탈퇴 여부) 변경 이벤트 - 회원 캐시 무효화 용
+/// revokeTokens 가 true 면 커밋 이후 기존에 발급된 Access Token 도 폐기 (탈퇴, 권한 변경)
+public record MemberChangedEvent(
+        Long memberId,
+        String email,
+        String oauthId,
+        boolean revokeTokens
+) {
+
+    public static MemberChangedEvent from(Member member) {
+        return new MemberChangedEvent(member.getId(), member.getEmail(), member.getOauthId(), false);
+    }
+
+    public static MemberChangedEvent revokingTokens(Member member) {
+        return new MemberChangedEvent(member.getId(), member.getEmail(), member.getOauthId(), true);
+    }
+}
@@ -0,0 +1,15 @@
+package com.wedit.backend.api.member.jwt.dto;
+
+import com.wedit.backend.common.util.TokenDigestUtil;
+
+/// 리프레시 토큰 원문 + SHA-256 digest
+/// 저장소는 digest 로 조회/저장하며, 원문은 JPA 저장소가 digest 전환 기간(expand 단계)에만 함께 기록
+public record HashedRefreshToken(
+        String token,
+        byte[] hash
+) {
+
+    public static HashedRefreshToken of(String token) {
+        return new HashedRefreshToken(token, TokenDigestUtil.sha256(token));
+    }
+}
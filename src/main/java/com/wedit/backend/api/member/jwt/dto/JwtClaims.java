@@ -0,0 +1,41 @@
+package com.wedit.backend.api.member.jwt.dto;
+
+import com.wedit.backend.api.member.entity.Role;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/// 서명 검증이 끝난 토큰의 클레임 (Refresh Token 은 email, role 이 null)
+public record JwtClaims(
+        Long memberId,
+        String email,
+        Role role,
+        String type,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public static final String ACCESS_TYPE = "ACCESS";
+    public static final String REFRESH_TYPE = "REFRESH";
+
+    public static JwtClaims from(Claims claims) {
+        String role = claims.get("role", String.class);
+
+        return new JwtClaims(
+                Long.valueOf(claims.getSubject()),
+                claims.get("email", String.class),
+                role != null ? Role.valueOf(role) : null,
+                claims.get("type", String.class),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isAccessToken() {
+        return ACCESS_TYPE.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TYPE.equals(type);
+    }
+}
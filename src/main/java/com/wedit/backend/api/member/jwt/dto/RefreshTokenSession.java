@@ -0,0 +1,16 @@
+package com.wedit.backend.api.member.jwt.dto;
+
+import java.time.LocalDateTime;
+
+/// 저장소 구현과 무관한 리프레시 토큰 세션 정보
+public record RefreshTokenSession(
+        Long memberId,
+        String deviceInfo,
+        LocalDateTime expiresAt,
+        LocalDateTime lastUsedAt
+) {
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+}
@@ -7,7 +7,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_token")
+@Table(name = "refresh_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_token_member_device", columnNames = {"member_id", "deviceInfo"})
+        },
+        indexes = {
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -18,22 +24,33 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    // 토큰 원문 대신 SHA-256 digest 저장 (고정 32 bytes)
+    // 기존 행 백필 기간 동안 NULL 허용 (RefreshTokenHashMigrationRunner)
+    @Column(name = "token_hash", columnDefinition = "BINARY(32)", unique = true)
+    private byte[] tokenHash;
+
+    // 구버전 호환용 토큰 원문 (EXPAND 단계에서만 기록, CONTRACT 단계에서 NULL 처리 후 DROP 예정)
+    @Column(name = "token", unique = true)
     private String token;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
-    // 만료시각 (추후 Batch 작업으로 동면 세션 삭제 로직에 사용)
+    // 만료시각 (RefreshTokenPurgeScheduler 가 만료 세션 삭제 시 사용)
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
-    // 접속 기기 정보 (UUID, 추후 다중세션 지원 시 사용)
+    // 접속 기기 정보 (X-Device-Id, 회원 + 기기당 세션 1개)
+    @Column(length = 100)
     private String deviceInfo;
 
-    public void updateToken(String newToken, LocalDateTime newExpiresAt) {
-        this.token = newToken;
+    // 마지막 발급/재발급 시각 (세션 수 초과 시 가장 오래 사용하지 않은 세션부터 제거)
+    private LocalDateTime lastUsedAt;
+
+    public void updateTokenHash(byte[] newTokenHash, LocalDateTime newExpiresAt) {
+        this.tokenHash = newTokenHash;
         this.expiresAt = newExpiresAt;
+        this.lastUsedAt = LocalDateTime.now();
     }
 }
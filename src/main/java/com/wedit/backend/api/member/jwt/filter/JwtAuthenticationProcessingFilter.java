@@ -1,12 +1,14 @@
 package com.wedit.backend.api.member.jwt.filter;
 
 import com.wedit.backend.api.member.entity.Member;
-import com.wedit.backend.api.member.jwt.entity.RefreshToken;
-import com.wedit.backend.api.member.jwt.repository.RefreshTokenRepository;
+import com.wedit.backend.api.member.jwt.dto.JwtClaims;
 import com.wedit.backend.api.member.jwt.service.JwtService;
+import com.wedit.backend.api.member.jwt.service.TokenRevocationService;
 import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.member.service.MemberPrincipalCacheService;
+import com.wedit.backend.common.config.jwt.PrincipalMode;
 import com.wedit.backend.common.config.security.entity.SecurityMember;
-import io.jsonwebtoken.JwtException;
+import com.wedit.backend.common.exception.NotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,8 +22,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -31,14 +31,15 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     @Value("${jwt.access.header}")
     private String accessTokenHeader;
 
-    @Value("${jwt.refresh.header}")
-    private String refreshTokenHeader;
+    @Value("${jwt.principal-mode:DATABASE}")
+    private PrincipalMode principalMode;
 
     private static final String TOKEN_REISSUE_URL = "/api/v1/member/token-reissue";
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final MemberPrincipalCacheService memberPrincipalCacheService;
 
     private static final String[] SWAGGER_URIS = {
             "/swagger-ui",
@@ -47,10 +48,15 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     };
 
     /// 스웨거 관련 경로 필터링 제외
+    /// 토큰 재발급은 MemberController 에서 리프레시 토큰 검증 ~ 교체를 한 번에 처리하므로 필터를 거치지 않음
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String requestURI = request.getRequestURI();
-        
+
+        if (requestURI.equals(TOKEN_REISSUE_URL)) {
+            return true;
+        }
+
         for (String uri : SWAGGER_URIS) {
             if (requestURI.contains(uri)) {
                 return true;
@@ -63,38 +69,14 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        String requestURI = request.getRequestURI();
-
         try {
-            // /token-reissue 로 요청했는가?
-            if (requestURI.equals(TOKEN_REISSUE_URL)) {
-                
-                // 리프레쉬 토큰 요청 헤더에서 추출 후 유효성 검사
-                Optional<String> refreshTokenOpt = extractToken(request, refreshTokenHeader)
-                        .filter(jwtService::isTokenValid);
-
-                // 리프레쉬 토큰이 비어있다면 예외
-                if (refreshTokenOpt.isEmpty()) {
-                    throw new JwtException("유효하지 않거나 존재하지 않는 리프레쉬 토큰입니다.");
-                }
-
-                String refreshToken = refreshTokenOpt.get();
-
-                // 리프레쉬 토큰으로 새 토큰 발급 후 인증 컨텍스트 설정
-                handleRefreshToken(response, refreshToken);
-
-                // 재발급 처리 후 필터 종료
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            // 액세스 토큰 요청 헤더에서 추출 후 유효성 검사, 인증 컨텍스트 설정
-            Optional<String> accessTokenOpt = extractToken(request, accessTokenHeader)
-                    .filter(jwtService::isTokenValid);
-
-            accessTokenOpt.ifPresent(token -> jwtService.extractEmail(token)
-                    .flatMap(memberRepository::findByEmailAndDeletedFalse)
-                    .ifPresent(this::setAuthentication));
+            // 액세스 토큰 요청 헤더에서 추출 후 1회 검증 (검증된 클레임 재사용), 인증 컨텍스트 설정
+            extractToken(request, accessTokenHeader)
+                    .flatMap(jwtService::parseAndVerify)
+                    .filter(JwtClaims::isAccessToken)
+                    .filter(claims -> !tokenRevocationService.isRevoked(claims))
+                    .flatMap(this::resolvePrincipal)
+                    .ifPresent(this::setAuthentication);
 
             // 이후 필터 체인 진행
             filterChain.doFilter(request, response);
@@ -112,30 +94,6 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         }
     }
 
-    /// Refresh Token을 처리하여 Access Token 재발급 및 인증 처리
-    private void handleRefreshToken(HttpServletResponse response, String refreshToken) {
-        RefreshToken savedRefreshToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new JwtException("저장된 리프레쉬 토큰이 없습니다."));
-
-        // 토큰 만료 여부 검사, 만료 시 예외 발생
-        if (savedRefreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new JwtException("만료된 리프레쉬 토큰입니다.");
-        }
-
-        Member member = savedRefreshToken.getMember();
-
-        // 새로운 Access, Refresh Token 생성
-        Map<String, String> newTokens = jwtService.createAccessAndRefreshToken(member.getId(), member.getEmail(), member.getRole());
-
-        // 새로 발급한 토큰을 응답 헤더에 담아 전송
-        response.setHeader(accessTokenHeader, "Bearer " + newTokens.get("accessToken"));
-        response.setHeader(refreshTokenHeader, "Bearer " + newTokens.get("refreshToken"));
-
-        setAuthentication(member);
-
-        log.info("Access, Refresh Token 재발급 완료");
-    }
-
     /// 토큰 추출 유틸 메서드
     private Optional<String> extractToken(HttpServletRequest request, String header) {
 
@@ -147,10 +105,25 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         return Optional.empty();
     }
 
-    /// Member -> SecurityMember 로 생성 후 SecurityContext 에 등록
-    private void setAuthentication(Member member) {
+    /// 검증된 클레임 -> SecurityMember 생성
+    /// STATELESS 모드는 DB 조회 없이, DATABASE 모드는 회원 캐시를 거쳐 생성하며 Member 엔티티는 필요 시 지연 조회
+    private Optional<SecurityMember> resolvePrincipal(JwtClaims claims) {
+
+        if (principalMode == PrincipalMode.STATELESS) {
+            return Optional.of(SecurityMember.of(claims, () -> loadMember(claims.memberId())));
+        }
+
+        return memberPrincipalCacheService.findByEmail(claims.email())
+                .map(snapshot -> SecurityMember.of(snapshot, () -> loadMember(snapshot.id())));
+    }
+
+    private Member loadMember(Long memberId) {
+        return memberRepository.findByIdAndDeletedFalse(memberId)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 사용자입니다."));
+    }
 
-        SecurityMember securityMember = SecurityMember.from(member);
+    /// SecurityMember 를 SecurityContext 에 등록
+    private void setAuthentication(SecurityMember securityMember) {
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 securityMember, null, securityMember.getAuthorities());
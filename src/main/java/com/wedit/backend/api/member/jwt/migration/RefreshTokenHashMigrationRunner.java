@@ -0,0 +1,135 @@
+package com.wedit.backend.api.member.jwt.migration;
+
+import com.wedit.backend.common.lock.service.JobLockService;
+import com.wedit.backend.common.util.TokenDigestUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/// refresh_token.token (JWT 원문) -> refresh_token.token_hash (SHA-256) expand / contract 전환
+///
+/// EXPAND (이번 릴리스, 기본값)
+/// 1. token_hash 컬럼/유니크 인덱스가 없으면 1회 생성
+/// 2. 새 코드는 원문과 digest 를 함께 기록하고, digest 로 조회되지 않으면 원문으로 조회 (구버전 인스턴스가 만든 행 대응)
+/// 3. digest 가 없는 행만 배치로 백필 (원문은 유지하므로 구버전 인스턴스의 세션도 그대로 유효)
+///
+/// CONTRACT (모든 인스턴스가 EXPAND 버전으로 교체된 다음 릴리스)
+/// 1. token 컬럼이 NOT NULL 이면 1회만 NULL 허용으로 변경
+/// 2. 원문이 남은 행의 digest 를 원문 기준으로 다시 계산하고 원문은 NULL 처리
+/// token 컬럼 DROP 은 CONTRACT 배포 완료 후 별도 릴리스에서 수동으로 진행한다.
+///
+/// DDL/백필은 job_lock 으로 여러 인스턴스 중 하나만 실행
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "jwt.refresh.hash-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenHashMigrationRunner implements ApplicationRunner {
+
+    private static final String JOB_NAME = "refresh-token-hash-migration";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLockService jobLockService;
+
+    @Value("${jwt.refresh.hash-migration.batch-size:500}")
+    private Integer batchSize;
+
+    @Value("${jwt.refresh.hash-migration.phase:EXPAND}")
+    private RefreshTokenMigrationPhase phase;
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        // 원문 컬럼이 이미 DROP 되었으면 전환 완료
+        if (!columnExists("token")) {
+            return;
+        }
+
+        if (!jobLockService.tryLock(JOB_NAME, Duration.ofMinutes(30))) {
+            return;
+        }
+
+        try {
+            if (!columnExists("token_hash")) {
+                jdbcTemplate.execute("ALTER TABLE refresh_token ADD COLUMN token_hash BINARY(32) NULL");
+                jdbcTemplate.execute("CREATE UNIQUE INDEX uk_refresh_token_token_hash ON refresh_token (token_hash)");
+            }
+
+            if (phase == RefreshTokenMigrationPhase.EXPAND) {
+                long migrated = migrate(
+                        "SELECT id, token FROM refresh_token " +
+                                "WHERE id > ? AND token_hash IS NULL AND token IS NOT NULL ORDER BY id LIMIT ?",
+                        "UPDATE refresh_token SET token_hash = ? WHERE id = ? AND token = ?");
+                log.info("[Migration] refresh_token digest 백필 완료 - {} 건", migrated);
+                return;
+            }
+
+            if (!columnNullable("token")) {
+                jdbcTemplate.execute("ALTER TABLE refresh_token MODIFY COLUMN token VARCHAR(255) NULL");
+            }
+
+            // 구버전이 교체한 행은 digest 가 이전 토큰 기준일 수 있으므로 원문 기준으로 다시 계산
+            long contracted = migrate(
+                    "SELECT id, token FROM refresh_token WHERE id > ? AND token IS NOT NULL ORDER BY id LIMIT ?",
+                    "UPDATE refresh_token SET token_hash = ?, token = NULL WHERE id = ? AND token = ?");
+            log.info("[Migration] refresh_token 원문 제거 완료 - {} 건 (token 컬럼은 배포 완료 후 DROP 필요)", contracted);
+        } finally {
+            jobLockService.unlock(JOB_NAME);
+        }
+    }
+
+    // id 키셋 순으로 원문 -> digest 반영 (조회 이후 원문이 바뀐 행은 건너뛰고 조회 시 원문으로 대체 조회)
+    private long migrate(String selectSql, String updateSql) {
+        long migrated = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    selectSql,
+                    (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("token")},
+                    lastId,
+                    batchSize
+            );
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> params = rows.stream()
+                    .map(row -> new Object[]{TokenDigestUtil.sha256((String) row[1]), row[0], row[1]})
+                    .toList();
+            jdbcTemplate.batchUpdate(updateSql, params);
+
+            migrated += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        return migrated;
+    }
+
+    private boolean columnExists(String columnName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'refresh_token' AND column_name = ?",
+                Integer.class,
+                columnName
+        );
+        return count != null && count > 0;
+    }
+
+    private boolean columnNullable(String columnName) {
+        String nullable = jdbcTemplate.queryForObject(
+                "SELECT is_nullable FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'refresh_token' AND column_name = ?",
+                String.class,
+                columnName
+        );
+        return "YES".equals(nullable);
+    }
+}
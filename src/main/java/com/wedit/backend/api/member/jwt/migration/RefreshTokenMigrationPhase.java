@@ -0,0 +1,11 @@
+package com.wedit.backend.api.member.jwt.migration;
+
+/// refresh_token 원문 -> digest 전환 단계 (jwt.refresh.hash-migration.phase)
+public enum RefreshTokenMigrationPhase {
+
+    // token_hash 추가 + 원문/digest 이중 기록, digest 우선 조회 후 원문으로 대체 조회 (구버전과 공존 가능)
+    EXPAND,
+
+    // 원문 기록 중단, 남은 원문을 digest 로 옮긴 뒤 NULL 처리 (모든 인스턴스가 EXPAND 버전으로 배포된 이후에만 사용)
+    CONTRACT
+}
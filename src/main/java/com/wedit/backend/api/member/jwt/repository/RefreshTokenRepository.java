@@ -2,7 +2,11 @@ package com.wedit.backend.api.member.jwt.repository;
 
 import com.wedit.backend.api.member.jwt.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,17 +15,60 @@ import java.util.Optional;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    // 토큰 값으로 조회
+    // 토큰 digest 로 조회
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    // 토큰 원문으로 조회 (digest 전환 기간 동안 구버전 인스턴스가 만든 행 대체 조회용)
     Optional<RefreshToken> findByToken(String token);
 
-    // 특정 회원 ID의 모든 리프레시 토큰 삭제
-    void deleteAllByMemberId(Long memberId);
+    // 특정 회원 ID의 모든 리프레시 토큰 삭제 (엔티티 로딩 없이 단일 DELETE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.member.id = :memberId")
+    void deleteAllByMemberId(@Param("memberId") Long memberId);
+
+    // 리프레시 토큰 교체 (기존 토큰이 만료 전일 때만 갱신, 동시 요청 시 1건만 성공)
+    // digest 전환 기간: 구버전이 원문만 교체한 행은 digest 가 이전 토큰 기준이므로 원문이 있으면 원문도 일치해야 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.tokenHash = :newTokenHash, r.token = :newToken, " +
+            "r.expiresAt = :newExpiresAt, r.lastUsedAt = :now " +
+            "where r.expiresAt > :now " +
+            "and ((r.tokenHash = :oldTokenHash and (r.token is null or r.token = :oldToken)) or r.token = :oldToken)")
+    int rotateToken(@Param("oldTokenHash") byte[] oldTokenHash,
+                    @Param("oldToken") String oldToken,
+                    @Param("newTokenHash") byte[] newTokenHash,
+                    @Param("newToken") String newToken,
+                    @Param("newExpiresAt") LocalDateTime newExpiresAt,
+                    @Param("now") LocalDateTime now);
+
+    // 회원 + 기기 세션 저장 (같은 기기 세션이 있으면 해당 행만 교체)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO refresh_token (member_id, device_info, token_hash, token, expires_at, last_used_at) " +
+            "VALUES (:memberId, :deviceInfo, :tokenHash, :token, :expiresAt, :now) " +
+            "ON DUPLICATE KEY UPDATE token_hash = VALUES(token_hash), token = VALUES(token), " +
+            "expires_at = VALUES(expires_at), last_used_at = VALUES(last_used_at)", nativeQuery = true)
+    void upsertDeviceSession(@Param("memberId") Long memberId,
+                             @Param("deviceInfo") String deviceInfo,
+                             @Param("tokenHash") byte[] tokenHash,
+                             @Param("token") String token,
+                             @Param("expiresAt") LocalDateTime expiresAt,
+                             @Param("now") LocalDateTime now);
+
+    // 회원 세션 ID 를 최근 사용 순으로 조회 (uk_refresh_token_member_device 인덱스 사용)
+    @Query("select r.id from RefreshToken r where r.member.id = :memberId order by r.lastUsedAt desc, r.id desc")
+    List<Long> findSessionIdsByMemberIdOrderByRecentUse(@Param("memberId") Long memberId);
 
     // 특정 회원 ID의 리프레시 토큰 리스트 조회
     List<RefreshToken> findAllByMemberId(Long memberId);
 
-    // 회원 ID와 토큰값으로 특정 리프레시 토큰 조회 (세션 검증 용)
-    Optional<RefreshToken> findByMemberIdAndToken(Long memberId, String token);
+    // 회원 ID와 토큰 digest 로 특정 리프레시 토큰 조회 (세션 검증 용)
+    Optional<RefreshToken> findByMemberIdAndTokenHash(Long memberId, byte[] tokenHash);
+
+    // 만료 토큰 청크 삭제 (expires_at 인덱스 순서로 삭제, 청크마다 별도 트랜잭션)
+    // ORDER BY 없는 DELETE ... LIMIT 는 삭제 대상이 비결정적이라 statement 복제에서 unsafe 로 처리됨
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now ORDER BY expires_at, id LIMIT :limit", nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
 
     // 리프레쉬 토큰 만료 이전 또는 이후 토큰 리스트 조회 (만료 토큰 삭제 용)
     List<RefreshToken> findByExpiresAtBefore(LocalDateTime expiresAt);
@@ -0,0 +1,113 @@
+package com.wedit.backend.api.member.jwt.scheduler;
+
+import com.wedit.backend.api.member.jwt.repository.RefreshTokenRepository;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/// 만료된 리프레시 토큰 주기적 삭제
+/// 청크 단위 DELETE + 초당 삭제 건수 제한으로 로그인 트래픽과 경합하지 않도록 하고,
+/// job_lock 으로 여러 인스턴스 중 하나만 실행
+/// Redis/인메모리 저장소는 자체 만료를 사용하므로 JPA 저장소일 때만 등록
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "jpa", matchIfMissing = true)
+public class RefreshTokenPurgeScheduler {
+
+    private static final String JOB_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JobLockService jobLockService;
+
+    private final Counter purgedRows;
+    private final DistributionSummary purgedRowsPerRun;
+    private final Timer runDuration;
+
+    @Value("${jwt.refresh.purge.chunk-size:1000}")
+    private Integer chunkSize;
+
+    @Value("${jwt.refresh.purge.max-rows-per-second:5000}")
+    private Integer maxRowsPerSecond;
+
+    @Value("${jwt.refresh.purge.max-run-minutes:30}")
+    private Long maxRunMinutes;
+
+    public RefreshTokenPurgeScheduler(RefreshTokenRepository refreshTokenRepository,
+                                      JobLockService jobLockService,
+                                      MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jobLockService = jobLockService;
+        this.purgedRows = Counter.builder("refresh_token.purge.rows")
+                .description("삭제된 만료 리프레시 토큰 수")
+                .register(meterRegistry);
+        this.purgedRowsPerRun = DistributionSummary.builder("refresh_token.purge.rows.per.run")
+                .description("실행 1회당 삭제 건수")
+                .register(meterRegistry);
+        this.runDuration = Timer.builder("refresh_token.purge.duration")
+                .description("실행 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${jwt.refresh.purge.cron:0 30 4 * * *}")
+    public void purgeExpiredTokens() {
+
+        Duration maxRun = Duration.ofMinutes(maxRunMinutes);
+        if (!jobLockService.tryLock(JOB_NAME, maxRun)) {
+            return;
+        }
+
+        try {
+            long total = runDuration.record(() -> purge(maxRun));
+            purgedRowsPerRun.record(total);
+            log.info("[Purge] 만료 리프레시 토큰 삭제 완료 - {} 건", total);
+        } finally {
+            jobLockService.unlock(JOB_NAME);
+        }
+    }
+
+    private long purge(Duration maxRun) {
+        LocalDateTime now = LocalDateTime.now();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxRun.toNanos();
+        long total = 0;
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            int deleted = refreshTokenRepository.deleteExpiredChunk(now, chunkSize);
+            total += deleted;
+            purgedRows.increment(deleted);
+
+            if (deleted < chunkSize) {
+                break;
+            }
+
+            throttle(total, startedAt);
+        }
+
+        return total;
+    }
+
+    // 누적 삭제 건수가 초당 상한을 넘지 않도록 대기
+    private void throttle(long total, long startedAt) {
+        long expectedNanos = total * 1_000_000_000L / maxRowsPerSecond;
+        long sleepNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (sleepNanos <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(Duration.ofNanos(sleepNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.wedit.backend.api.member.jwt.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.jwt.dto.JwtClaims;
+import com.wedit.backend.common.util.TokenDigestUtil;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,10 +14,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -23,15 +32,30 @@ public class JwtService {
     private final Long refreshTokenExpirePeriod;
     private final RefreshTokenService refreshTokenService;
 
+    // 파서는 불변 + thread-safe 이므로 한 번만 생성하여 재사용
+    private final JwtParser jwtParser;
+
+    // 검증 완료된 Access Token 클레임 캐시 (key: 토큰 SHA-256 digest, 토큰 exp 까지만 유지)
+    private final Cache<String, JwtClaims> verifiedClaimsCache;
+
     public JwtService(@Value("${jwt.secretKey}") String secretKey,
                       @Value("${jwt.access.expiration}") Long accessTokenExpirePeriod,
                       @Value("${jwt.refresh.expiration}") Long refreshTokenExpirePeriod,
+                      @Value("${jwt.claims-cache.max-size:10000}") Long claimsCacheMaxSize,
                       RefreshTokenService refreshTokenService) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
         this.accessTokenExpirePeriod = accessTokenExpirePeriod;
         this.refreshTokenExpirePeriod = refreshTokenExpirePeriod;
         this.refreshTokenService = refreshTokenService;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(Expiry.creating((String digest, JwtClaims claims) ->
+                        Duration.between(Instant.now(), claims.expiresAt())))
+                .build();
     }
 
     // Access Token 발급
@@ -44,7 +68,7 @@ public class JwtService {
                 .setSubject(memberId.toString())    // sub
                 .claim("email", email)
                 .claim("role", role.name())
-                .claim("type", "ACCESS")
+                .claim("type", JwtClaims.ACCESS_TYPE)
                 .setIssuedAt(now)                   // iat
                 .setExpiration(expirationDate)      // exp
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -53,35 +77,59 @@ public class JwtService {
     
     // Refresh Token 발급
     public String createRefreshToken(Long memberId) {
+        return createRefreshToken(memberId, null);
+    }
+
+    // 기기별 Refresh Token 발급 (같은 기기의 이전 세션만 교체)
+    public String createRefreshToken(Long memberId, String deviceInfo) {
 
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + refreshTokenExpirePeriod);
 
-        String token =  Jwts.builder()
-                .setSubject(memberId.toString())    // sub
-                .claim("type", "REFRESH")
-                .setIssuedAt(now)                   // iat
-                .setExpiration(expirationDate)      // exp
-                .signWith(secretKey, SignatureAlgorithm.HS256)
-                .compact();
-
-        refreshTokenService.deleteAllByMemberId(memberId);
+        String token = signRefreshToken(memberId, now, expirationDate);
 
         refreshTokenService.saveOrUpdateRefreshToken(
                 memberId,
                 token,
-                expirationDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime(),
-                null
+                toLocalDateTime(expirationDate),
+                deviceInfo
         );
 
         return token;
     }
-    
+
+    /***
+     * Refresh Token 교체 발급
+     * @param memberId 회원 ID
+     * @param oldRefreshToken 기존 Refresh Token
+     * @return 교체 성공 시 새 토큰, 이미 교체되었거나 만료된 토큰이면 Optional.empty()
+     */
+    public Optional<String> rotateRefreshToken(Long memberId, String oldRefreshToken) {
+
+        Date now = new Date();
+        Date expirationDate = new Date(now.getTime() + refreshTokenExpirePeriod);
+
+        String token = signRefreshToken(memberId, now, expirationDate);
+
+        boolean rotated = refreshTokenService.rotateRefreshToken(
+                oldRefreshToken,
+                token,
+                toLocalDateTime(expirationDate)
+        );
+
+        return rotated ? Optional.of(token) : Optional.empty();
+    }
+
     // Access + Refresh Token 발급
     public Map<String, String> createAccessAndRefreshToken(Long memberId, String email, Role role) {
+        return createAccessAndRefreshToken(memberId, email, role, null);
+    }
+
+    // 기기별 Access + Refresh Token 발급
+    public Map<String, String> createAccessAndRefreshToken(Long memberId, String email, Role role, String deviceInfo) {
 
         String accessToken = createAccessToken(memberId, email, role);
-        String refreshToken = createRefreshToken(memberId);
+        String refreshToken = createRefreshToken(memberId, deviceInfo);
 
         log.debug("Access/Refresh Token 발급 완료 : {}", memberId);
 
@@ -96,17 +144,28 @@ public class JwtService {
     }
 
     /***
-     * 토큰 유효성 검증 메서드
+     * 토큰 서명/만료 검증 후 클레임 반환
+     * Access Token 은 검증 결과를 exp 까지 캐싱하여 동일 토큰 재요청 시 서명 검증을 생략
      * @param token 검증할 토큰
-     * @return 리턴 시 유효, false 시 무효
+     * @return 유효 시 클레임, 무효 시 Optional.empty()
      */
-    public boolean isTokenValid(String token) {
+    public Optional<JwtClaims> parseAndVerify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = TokenDigestUtil.sha256Base64(token);
+        JwtClaims cached = verifiedClaimsCache.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            JwtClaims claims = JwtClaims.from(jwtParser.parseClaimsJws(token).getBody());
+            if (claims.isAccessToken()) {
+                verifiedClaimsCache.put(digest, claims);
+            }
+            return Optional.of(claims);
         } catch (ExpiredJwtException e) {
             log.warn("만료된 토큰입니다 : {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -116,35 +175,42 @@ public class JwtService {
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("유효하지 않은 토큰입니다 : {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
-    
-    // 토큰 클레임 추출
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+
+    /***
+     * 토큰 유효성 검증 메서드
+     * @param token 검증할 토큰
+     * @return 리턴 시 유효, false 시 무효
+     */
+    public boolean isTokenValid(String token) {
+        return parseAndVerify(token).isPresent();
     }
-    
+
     // 토큰에서 이메일 추출
     public Optional<String> extractEmail(String accessToken) {
-        try {
-            return Optional.ofNullable(getClaimsFromToken(accessToken).get("email", String.class));
-        } catch (Exception e) {
-            log.error("토큰에서 이메일 추출 실패 : {}", e.getMessage());
-            return Optional.empty();
-        }
+        return parseAndVerify(accessToken).map(JwtClaims::email);
     }
-    
+
     // 토큰에서 권한 추출
     public Optional<String> extractRole(String accessToken) {
-        try {
-            return Optional.ofNullable(getClaimsFromToken(accessToken).get("role", String.class));
-        } catch (Exception e) {
-            log.error("토큰에서 권한 추출 실패 : {}", e.getMessage());
-            return Optional.empty();
-        }
+        return parseAndVerify(accessToken)
+                .map(JwtClaims::role)
+                .map(Role::name);
+    }
+
+    private String signRefreshToken(Long memberId, Date issuedAt, Date expirationDate) {
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())    // jti (같은 초에 발급되어도 토큰 값이 겹치지 않도록)
+                .setSubject(memberId.toString())        // sub
+                .claim("type", JwtClaims.REFRESH_TYPE)
+                .setIssuedAt(issuedAt)                  // iat
+                .setExpiration(expirationDate)          // exp
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
     }
 }
@@ -1,12 +1,10 @@
 package com.wedit.backend.api.member.jwt.service;
 
-import com.wedit.backend.api.member.entity.Member;
-import com.wedit.backend.api.member.jwt.entity.RefreshToken;
-import com.wedit.backend.api.member.jwt.repository.RefreshTokenRepository;
-import com.wedit.backend.api.member.repository.MemberRepository;
-import com.wedit.backend.common.exception.NotFoundException;
-import jakarta.transaction.Transactional;
+import com.wedit.backend.api.member.jwt.dto.HashedRefreshToken;
+import com.wedit.backend.api.member.jwt.dto.RefreshTokenSession;
+import com.wedit.backend.api.member.jwt.store.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -16,39 +14,54 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    // X-Device-Id 를 보내지 않는 클라이언트의 기기 키
+    public static final String DEFAULT_DEVICE = "default";
+    private static final int DEVICE_INFO_MAX_LENGTH = 100;
 
-    private final MemberRepository memberRepository;
+    // jwt.refresh.store 설정에 따라 JPA / 인메모리 / Redis 중 하나가 주입됨
+    private final RefreshTokenStore refreshTokenStore;
 
-    @Transactional
-    public void saveOrUpdateRefreshToken(Long memberId, String token, LocalDateTime expiresAt, String deviceInfo) {
-
-        Member member = memberRepository.findById(memberId)
-                        .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다. id= " + memberId));
+    @Value("${jwt.refresh.max-sessions:5}")
+    private Integer maxSessions;
 
-        // 기존 리프레쉬 토큰 삭제 (단일 세션)
-        refreshTokenRepository.deleteAllByMemberId(memberId);
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .member(member)
-                .token(token)
-                .expiresAt(expiresAt)
-                .deviceInfo(deviceInfo)
-                .build();
+    // 기기별 세션 저장 (같은 기기면 해당 세션만 교체), 세션 수 초과 시 가장 오래 사용하지 않은 세션 제거
+    public void saveOrUpdateRefreshToken(Long memberId, String token, LocalDateTime expiresAt, String deviceInfo) {
+        refreshTokenStore.save(
+                memberId,
+                normalizeDeviceInfo(deviceInfo),
+                HashedRefreshToken.of(token),
+                expiresAt,
+                maxSessions
+        );
+    }
 
-        refreshTokenRepository.save(refreshToken);
+    // 기존 토큰 -> 새 토큰 교체, 이미 교체되었거나 만료된 토큰이면 false
+    public boolean rotateRefreshToken(String oldToken, String newToken, LocalDateTime newExpiresAt) {
+        return refreshTokenStore.rotate(
+                HashedRefreshToken.of(oldToken),
+                HashedRefreshToken.of(newToken),
+                newExpiresAt
+        );
     }
 
-    public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+    public Optional<RefreshTokenSession> findByToken(String token) {
+        return refreshTokenStore.findByToken(HashedRefreshToken.of(token));
     }
 
-    @Transactional
     public void deleteAllByMemberId(Long memberId) {
-        refreshTokenRepository.deleteAllByMemberId(memberId);
+        refreshTokenStore.deleteAllByMemberId(memberId);
+    }
+
+    public boolean isTokenExpired(RefreshTokenSession session) {
+        return session.isExpired();
     }
 
-    public boolean isTokenExpired(RefreshToken refreshToken) {
-        return refreshToken.getExpiresAt().isBefore(LocalDateTime.now());
+    private String normalizeDeviceInfo(String deviceInfo) {
+        if (deviceInfo == null || deviceInfo.isBlank()) {
+            return DEFAULT_DEVICE;
+        }
+
+        String trimmed = deviceInfo.strip();
+        return trimmed.length() > DEVICE_INFO_MAX_LENGTH ? trimmed.substring(0, DEVICE_INFO_MAX_LENGTH) : trimmed;
     }
 }
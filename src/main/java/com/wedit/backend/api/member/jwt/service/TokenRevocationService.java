@@ -0,0 +1,56 @@
+package com.wedit.backend.api.member.jwt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wedit.backend.api.member.jwt.dto.JwtClaims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/// 회원 탈퇴, 권한 변경 시 이전에 발급된 Access Token 을 무효화하기 위한 인메모리 폐기 목록
+/// Access Token 만료 시간이 지나면 이전 토큰은 어차피 만료되므로 그 이후 항목은 자동 제거
+///
+/// 항목이 빠지면 폐기된 토큰이 다시 통과하므로 크기 기반 제거는 두지 않음
+/// (항목 수는 Access Token 만료 시간 동안의 탈퇴/권한 변경 건수로 제한됨)
+/// 다른 인스턴스에는 MemberPrincipalCacheService 의 무효화 메시지(Redis pub/sub)로 전파
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    // key: memberId, value: 폐기 시각 (이 시각 이전에 발급된 토큰은 무효)
+    private final Cache<Long, Instant> revokedMembers;
+
+    public TokenRevocationService(@Value("${jwt.access.expiration}") Long accessTokenExpirePeriod) {
+        this.revokedMembers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(accessTokenExpirePeriod))
+                .build();
+    }
+
+    /***
+     * 회원의 기존 토큰 전체 폐기
+     * @return 폐기 시각 (다른 인스턴스에 같은 시각으로 전파)
+     */
+    public Instant revokeAll(Long memberId) {
+        // iat 는 초 단위로 절삭되므로 폐기 시각도 초 단위로 맞춤
+        Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revoke(memberId, revokedAt);
+        log.info("회원 토큰 폐기 처리 : {}", memberId);
+        return revokedAt;
+    }
+
+    // 다른 인스턴스에서 전파된 폐기 반영 (늦게 도착한 이전 폐기가 최신 폐기 시각을 덮어쓰지 않도록 큰 값 유지)
+    public void revoke(Long memberId, Instant revokedAt) {
+        revokedMembers.asMap().merge(memberId, revokedAt,
+                (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    // 폐기 시각과 같은 초에 발급된 토큰도 폐기 이전 발급일 수 있으므로 무효 처리 (iat <= revokedAt)
+    public boolean isRevoked(JwtClaims claims) {
+        Instant revokedAt = revokedMembers.getIfPresent(claims.memberId());
+        return revokedAt != null && !claims.issuedAt().isAfter(revokedAt);
+    }
+}
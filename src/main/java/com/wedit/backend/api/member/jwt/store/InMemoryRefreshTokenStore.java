@@ -0,0 +1,115 @@
+package com.wedit.backend.api.member.jwt.store;
+
+import com.wedit.backend.api.member.jwt.dto.HashedRefreshToken;
+import com.wedit.backend.api.member.jwt.dto.RefreshTokenSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/// 단일 인스턴스/테스트용 인메모리 저장소
+/// 만료 세션은 조회 시 즉시 무시되고, 주기적인 sweep 으로 메모리에서 제거된다.
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    // tokenHash(hex) -> 세션
+    private final ConcurrentHashMap<String, RefreshTokenSession> sessions = new ConcurrentHashMap<>();
+
+    // memberId -> (deviceInfo -> tokenHash(hex)), 회원 단위 갱신은 compute 로 원자적으로 처리
+    private final ConcurrentHashMap<Long, Map<String, String>> memberDevices = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(Long memberId, String deviceInfo, HashedRefreshToken token, LocalDateTime expiresAt, int maxSessions) {
+        String key = HEX.formatHex(token.hash());
+        LocalDateTime now = LocalDateTime.now();
+
+        memberDevices.compute(memberId, (id, devices) -> {
+            Map<String, String> updated = devices != null ? devices : new HashMap<>();
+
+            String previous = updated.put(deviceInfo, key);
+            if (previous != null) {
+                sessions.remove(previous);
+            }
+            sessions.put(key, new RefreshTokenSession(memberId, deviceInfo, expiresAt, now));
+
+            // 가장 오래 사용하지 않은 세션부터 제거
+            while (updated.size() > maxSessions) {
+                String oldestDevice = updated.entrySet().stream()
+                        .min(Comparator.comparing(entry -> lastUsedAt(entry.getValue())))
+                        .map(Map.Entry::getKey)
+                        .orElseThrow();
+                sessions.remove(updated.remove(oldestDevice));
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public boolean rotate(HashedRefreshToken oldToken, HashedRefreshToken newToken, LocalDateTime newExpiresAt) {
+        String oldKey = HEX.formatHex(oldToken.hash());
+        String newKey = HEX.formatHex(newToken.hash());
+
+        // remove 에 성공한 요청만 교체 진행
+        RefreshTokenSession current = sessions.remove(oldKey);
+        if (current == null || current.isExpired()) {
+            return false;
+        }
+
+        AtomicBoolean rotated = new AtomicBoolean(false);
+        memberDevices.computeIfPresent(current.memberId(), (id, devices) -> {
+            if (devices.replace(current.deviceInfo(), oldKey, newKey)) {
+                sessions.put(newKey, new RefreshTokenSession(
+                        current.memberId(), current.deviceInfo(), newExpiresAt, LocalDateTime.now()));
+                rotated.set(true);
+            }
+            return devices;
+        });
+
+        return rotated.get();
+    }
+
+    @Override
+    public Optional<RefreshTokenSession> findByToken(HashedRefreshToken token) {
+        return Optional.ofNullable(sessions.get(HEX.formatHex(token.hash())))
+                .filter(session -> !session.isExpired());
+    }
+
+    @Override
+    public void deleteAllByMemberId(Long memberId) {
+        Map<String, String> devices = memberDevices.remove(memberId);
+        if (devices != null) {
+            devices.values().forEach(sessions::remove);
+        }
+    }
+
+    // 만료 세션 정리
+    @Scheduled(fixedDelayString = "${jwt.refresh.memory.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        sessions.forEach((key, session) -> {
+            if (session.isExpired() && sessions.remove(key, session)) {
+                memberDevices.computeIfPresent(session.memberId(), (id, devices) -> {
+                    devices.remove(session.deviceInfo(), key);
+                    return devices.isEmpty() ? null : devices;
+                });
+            }
+        });
+    }
+
+    private LocalDateTime lastUsedAt(String key) {
+        RefreshTokenSession session = sessions.get(key);
+        return session != null ? session.lastUsedAt() : LocalDateTime.MIN;
+    }
+}
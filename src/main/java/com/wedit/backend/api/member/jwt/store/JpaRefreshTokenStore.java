@@ -0,0 +1,81 @@
+package com.wedit.backend.api.member.jwt.store;
+
+import com.wedit.backend.api.member.jwt.dto.HashedRefreshToken;
+import com.wedit.backend.api.member.jwt.dto.RefreshTokenSession;
+import com.wedit.backend.api.member.jwt.entity.RefreshToken;
+import com.wedit.backend.api.member.jwt.migration.RefreshTokenMigrationPhase;
+import com.wedit.backend.api.member.jwt.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/// MySQL refresh_token 테이블 저장소 (기본값)
+/// digest 전환 EXPAND 단계에서는 구버전 인스턴스와 공존하도록 원문도 함께 기록하고 원문으로 대체 조회
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh.hash-migration.phase:EXPAND}")
+    private RefreshTokenMigrationPhase phase;
+
+    @Override
+    @Transactional
+    public void save(Long memberId, String deviceInfo, HashedRefreshToken token, LocalDateTime expiresAt, int maxSessions) {
+
+        refreshTokenRepository.upsertDeviceSession(
+                memberId, deviceInfo, token.hash(), legacyToken(token), expiresAt, LocalDateTime.now());
+
+        List<Long> sessionIds = refreshTokenRepository.findSessionIdsByMemberIdOrderByRecentUse(memberId);
+        if (sessionIds.size() > maxSessions) {
+            refreshTokenRepository.deleteAllByIdInBatch(sessionIds.subList(maxSessions, sessionIds.size()));
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(HashedRefreshToken oldToken, HashedRefreshToken newToken, LocalDateTime newExpiresAt) {
+        return refreshTokenRepository.rotateToken(
+                oldToken.hash(), oldToken.token(),
+                newToken.hash(), legacyToken(newToken),
+                newExpiresAt, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshTokenSession> findByToken(HashedRefreshToken token) {
+        // 원문이 남아 있는데 다르면 구버전이 원문만 교체한 행이므로 digest 가 이전 토큰 기준
+        return refreshTokenRepository.findByTokenHash(token.hash())
+                .filter(refreshToken -> refreshToken.getToken() == null || refreshToken.getToken().equals(token.token()))
+                .or(() -> refreshTokenRepository.findByToken(token.token()))
+                .map(JpaRefreshTokenStore::toSession);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllByMemberId(Long memberId) {
+        refreshTokenRepository.deleteAllByMemberId(memberId);
+    }
+
+    // EXPAND 단계에서만 원문 기록
+    private String legacyToken(HashedRefreshToken token) {
+        return phase == RefreshTokenMigrationPhase.EXPAND ? token.token() : null;
+    }
+
+    private static RefreshTokenSession toSession(RefreshToken token) {
+        return new RefreshTokenSession(
+                token.getMember().getId(),
+                token.getDeviceInfo(),
+                token.getExpiresAt(),
+                token.getLastUsedAt()
+        );
+    }
+}
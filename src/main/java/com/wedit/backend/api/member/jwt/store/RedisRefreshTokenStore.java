@@ -0,0 +1,161 @@
+package com.wedit.backend.api.member.jwt.store;
+
+import com.wedit.backend.api.member.jwt.dto.HashedRefreshToken;
+import com.wedit.backend.api.member.jwt.dto.RefreshTokenSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/// Redis 저장소 (여러 인스턴스 공유, 키 만료로 별도 purge 불필요)
+/// refresh:token:{hash}          - HASH (memberId, deviceInfo, expiresAt, lastUsedAt), expiresAt 에 만료
+/// refresh:member:{id}:devices   - HASH (deviceInfo -> hash)
+/// refresh:member:{id}:lru       - ZSET (deviceInfo, score = 마지막 사용 시각)
+/// 회원 키는 가장 최근에 발급된 토큰의 만료 시각에 함께 만료
+/// 회원 단위 변경은 Lua 스크립트로 원자적으로 처리 (단일 노드/Sentinel 기준, Cluster 미지원)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String MEMBER_PREFIX = "refresh:member:";
+
+    // KEYS: token, devices, lru / ARGV: memberId, deviceInfo, hash, expiresAt(ms), now(ms), maxSessions, tokenPrefix
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            local previous = redis.call('HGET', KEYS[2], ARGV[2])
+            if previous then
+                redis.call('DEL', ARGV[7] .. previous)
+            end
+            redis.call('HSET', KEYS[1], 'memberId', ARGV[1], 'deviceInfo', ARGV[2], 'expiresAt', ARGV[4], 'lastUsedAt', ARGV[5])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('ZADD', KEYS[3], ARGV[5], ARGV[2])
+            local overflow = redis.call('ZCARD', KEYS[3]) - tonumber(ARGV[6])
+            if overflow > 0 then
+                local oldest = redis.call('ZRANGE', KEYS[3], 0, overflow - 1)
+                for _, device in ipairs(oldest) do
+                    local hash = redis.call('HGET', KEYS[2], device)
+                    if hash then
+                        redis.call('DEL', ARGV[7] .. hash)
+                    end
+                    redis.call('HDEL', KEYS[2], device)
+                    redis.call('ZREM', KEYS[3], device)
+                end
+            end
+            redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+            redis.call('PEXPIREAT', KEYS[3], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // KEYS: oldToken, newToken / ARGV: newHash, newExpiresAt(ms), now(ms), memberPrefix
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            local session = redis.call('HMGET', KEYS[1], 'memberId', 'deviceInfo', 'expiresAt')
+            if not session[1] or tonumber(session[3]) <= tonumber(ARGV[3]) then
+                return 0
+            end
+            local devices = ARGV[4] .. session[1] .. ':devices'
+            local lru = ARGV[4] .. session[1] .. ':lru'
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[2], 'memberId', session[1], 'deviceInfo', session[2], 'expiresAt', ARGV[2], 'lastUsedAt', ARGV[3])
+            redis.call('PEXPIREAT', KEYS[2], ARGV[2])
+            redis.call('HSET', devices, session[2], ARGV[1])
+            redis.call('ZADD', lru, ARGV[3], session[2])
+            redis.call('PEXPIREAT', devices, ARGV[2])
+            redis.call('PEXPIREAT', lru, ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: devices, lru / ARGV: tokenPrefix
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = RedisScript.of("""
+            local hashes = redis.call('HVALS', KEYS[1])
+            for _, hash in ipairs(hashes) do
+                redis.call('DEL', ARGV[1] .. hash)
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return #hashes
+            """, Long.class);
+
+    private final StringRedisTemplate refreshTokenRedisTemplate;
+
+    @Override
+    public void save(Long memberId, String deviceInfo, HashedRefreshToken token, LocalDateTime expiresAt, int maxSessions) {
+        String hash = HEX.formatHex(token.hash());
+        refreshTokenRedisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(TOKEN_PREFIX + hash, devicesKey(memberId), lruKey(memberId)),
+                String.valueOf(memberId),
+                deviceInfo,
+                hash,
+                String.valueOf(toEpochMilli(expiresAt)),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(maxSessions),
+                TOKEN_PREFIX
+        );
+    }
+
+    @Override
+    public boolean rotate(HashedRefreshToken oldToken, HashedRefreshToken newToken, LocalDateTime newExpiresAt) {
+        String newHash = HEX.formatHex(newToken.hash());
+        Long result = refreshTokenRedisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + HEX.formatHex(oldToken.hash()), TOKEN_PREFIX + newHash),
+                newHash,
+                String.valueOf(toEpochMilli(newExpiresAt)),
+                String.valueOf(System.currentTimeMillis()),
+                MEMBER_PREFIX
+        );
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public Optional<RefreshTokenSession> findByToken(HashedRefreshToken token) {
+        Map<Object, Object> entries = refreshTokenRedisTemplate.opsForHash()
+                .entries(TOKEN_PREFIX + HEX.formatHex(token.hash()));
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new RefreshTokenSession(
+                Long.valueOf((String) entries.get("memberId")),
+                (String) entries.get("deviceInfo"),
+                toLocalDateTime((String) entries.get("expiresAt")),
+                toLocalDateTime((String) entries.get("lastUsedAt"))
+        )).filter(session -> !session.isExpired());
+    }
+
+    @Override
+    public void deleteAllByMemberId(Long memberId) {
+        refreshTokenRedisTemplate.execute(
+                DELETE_ALL_SCRIPT,
+                List.of(devicesKey(memberId), lruKey(memberId)),
+                TOKEN_PREFIX
+        );
+    }
+
+    private static String devicesKey(Long memberId) {
+        return MEMBER_PREFIX + memberId + ":devices";
+    }
+
+    private static String lruKey(Long memberId) {
+        return MEMBER_PREFIX + memberId + ":lru";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(String epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMilli)), ZoneId.systemDefault());
+    }
+}
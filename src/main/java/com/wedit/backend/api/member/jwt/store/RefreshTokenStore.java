@@ -0,0 +1,23 @@
+package com.wedit.backend.api.member.jwt.store;
+
+import com.wedit.backend.api.member.jwt.dto.HashedRefreshToken;
+import com.wedit.backend.api.member.jwt.dto.RefreshTokenSession;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/// 리프레시 토큰 세션 저장소 (jwt.refresh.store = jpa | memory | redis)
+/// 토큰은 SHA-256 digest 로 저장/조회하며 원문은 저장하지 않는다.
+/// (JPA 저장소만 digest 전환 expand 단계 동안 구버전 호환을 위해 원문을 함께 기록)
+public interface RefreshTokenStore {
+
+    // 회원 + 기기 세션 저장 (같은 기기 세션은 교체), 세션 수가 maxSessions 를 넘으면 가장 오래 사용하지 않은 세션 제거
+    void save(Long memberId, String deviceInfo, HashedRefreshToken token, LocalDateTime expiresAt, int maxSessions);
+
+    // 기존 토큰 -> 새 토큰 교체 (만료 전인 기존 토큰이 있을 때만 성공, 동시 요청 중 1건만 성공)
+    boolean rotate(HashedRefreshToken oldToken, HashedRefreshToken newToken, LocalDateTime newExpiresAt);
+
+    Optional<RefreshTokenSession> findByToken(HashedRefreshToken token);
+
+    void deleteAllByMemberId(Long memberId);
+}
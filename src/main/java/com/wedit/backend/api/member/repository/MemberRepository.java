@@ -1,9 +1,16 @@
 package com.wedit.backend.api.member.repository;
 
 import com.wedit.backend.api.member.entity.Member;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -13,9 +20,35 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByOauthId(String oauthId);
 
+    Optional<Member> findByIdAndDeletedFalse(Long id);
+
     Optional<Member> findByEmailAndDeletedFalse(String email);
 
     Optional<Member> findByOauthIdAndDeletedFalse(String oauthId);
 
     boolean existsByEmailAndDeletedFalse(String email);
+
+    // 소셜 회원 최초 가입 (oauth_id / email 중복 시 아무것도 변경하지 않음, 동시 최초 로그인에도 예외 없이 1건만 생성)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO member (email, password, oauth_id, name, role, deleted, created_at, updated_at) " +
+            "VALUES (:email, :password, :oauthId, :name, :role, false, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int insertSocialMemberIfAbsent(@Param("email") String email,
+                                   @Param("password") String password,
+                                   @Param("oauthId") String oauthId,
+                                   @Param("name") String name,
+                                   @Param("role") String role,
+                                   @Param("now") LocalDateTime now);
+
+    // 로그인 시 약한 해시 교체 (조회 이후 비밀번호가 바뀌었으면 덮어쓰지 않음), 단건 UPDATE 트랜잭션
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :oldPassword")
+    int upgradePassword(@Param("id") Long id,
+                        @Param("oldPassword") String oldPassword,
+                        @Param("newPassword") String newPassword);
+
+    // 잠금 읽기로 최신 커밋 데이터 조회 (REPEATABLE READ 스냅샷에 가려진, 다른 트랜잭션이 방금 생성한 회원 확인용)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Member> findForShareByOauthIdAndDeletedFalse(String oauthId);
 }
@@ -0,0 +1,155 @@
+package com.wedit.backend.api.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wedit.backend.api.member.dto.MemberSnapshot;
+import com.wedit.backend.api.member.event.MemberChangedEvent;
+import com.wedit.backend.api.member.jwt.service.TokenRevocationService;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/// 인증 필터/소셜 로그인에서 사용하는 활성 회원 조회 near-cache
+/// 관리 엔티티가 아닌 MemberSnapshot 을 저장하며, MemberChangedEvent 커밋 이후 무효화
+///
+/// 캐시는 app.member.principal-cache.enabled=true 일 때만 사용 (기본값은 매 요청 DB 조회)
+/// 다중 인스턴스에서 무효화는 Redis pub/sub(jwt.refresh.store=redis) 으로 전파되며,
+/// Redis 가 없으면 다른 인스턴스는 TTL(기본 30초) 동안 탈퇴/권한 변경 전 정보를 사용할 수 있음
+///
+/// 탈퇴/권한 변경 이벤트는 커밋 이후 Access Token 폐기(TokenRevocationService)도 함께 처리하며,
+/// 폐기는 캐시 사용 여부와 무관하게 같은 메시지로 모든 인스턴스에 전파
+@Service
+@Slf4j
+public class MemberPrincipalCacheService {
+
+    public static final String INVALIDATION_CHANNEL = "member:principal:invalidate";
+
+    private final MemberRepository memberRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final boolean enabled;
+
+    private final Cache<String, MemberSnapshot> byEmail;
+    private final Cache<String, MemberSnapshot> byOauthId;
+
+    public MemberPrincipalCacheService(MemberRepository memberRepository,
+                                       TokenRevocationService tokenRevocationService,
+                                       MeterRegistry meterRegistry,
+                                       @Qualifier("refreshTokenRedisTemplate") ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                       @Value("${app.member.principal-cache.enabled:false}") Boolean enabled,
+                                       @Value("${app.member.principal-cache.max-size:10000}") Long maxSize,
+                                       @Value("${app.member.principal-cache.ttl-seconds:30}") Long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.enabled = enabled;
+        this.byEmail = buildCache(maxSize, ttlSeconds);
+        this.byOauthId = buildCache(maxSize, ttlSeconds);
+
+        // /actuator/metrics/cache.gets, cache.evictions 등으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "member.principal.email");
+        CaffeineCacheMetrics.monitor(meterRegistry, byOauthId, "member.principal.oauth-id");
+    }
+
+    // 탈퇴하지 않은 회원을 이메일로 조회
+    public Optional<MemberSnapshot> findByEmail(String email) {
+        if (!enabled) {
+            return memberRepository.findByEmailAndDeletedFalse(email).map(MemberSnapshot::from);
+        }
+        return Optional.ofNullable(byEmail.get(email, key -> memberRepository.findByEmailAndDeletedFalse(key)
+                .map(MemberSnapshot::from)
+                .orElse(null)));
+    }
+
+    // 탈퇴하지 않은 회원을 소셜 ID 로 조회
+    public Optional<MemberSnapshot> findByOauthId(String oauthId) {
+        if (!enabled) {
+            return memberRepository.findByOauthIdAndDeletedFalse(oauthId).map(MemberSnapshot::from);
+        }
+        return Optional.ofNullable(byOauthId.get(oauthId, key -> memberRepository.findByOauthIdAndDeletedFalse(key)
+                .map(MemberSnapshot::from)
+                .orElse(null)));
+    }
+
+    // 트랜잭션 커밋 이후 무효화 (커밋 전 재조회로 인한 이전 값 재적재 방지, 롤백된 탈퇴/권한 변경은 폐기하지 않음)
+    // 다른 인스턴스에도 전파
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        Instant revokedAt = event.revokeTokens() ? tokenRevocationService.revokeAll(event.memberId()) : null;
+        if (!enabled && revokedAt == null) {
+            return;
+        }
+
+        invalidateLocal(event.email(), event.oauthId());
+
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                        toMessage(event.email(), event.oauthId(), event.memberId(), revokedAt));
+            } catch (Exception e) {
+                // 전파 실패 시 다른 인스턴스는 TTL 만료까지 이전 정보(토큰은 Access Token 만료까지) 사용
+                log.warn("회원 캐시 무효화 전파 실패 : {} - {}", event.memberId(), e.getMessage());
+            }
+        }
+        log.debug("회원 캐시 무효화 : {}", event.memberId());
+    }
+
+    // 다른 인스턴스에서 전파된 무효화 메시지 처리 ("email\noauthId\nmemberId\n폐기 시각(epoch 초)", 값이 없으면 빈 문자열)
+    public void onInvalidationMessage(String message) {
+        String[] fields = message.split("\n", -1);
+        if (fields.length < 2) {
+            return;
+        }
+        String email = fields[0];
+        String oauthId = fields[1];
+        invalidateLocal(email.isEmpty() ? null : email, oauthId.isEmpty() ? null : oauthId);
+
+        if (fields.length >= 4 && !fields[2].isEmpty() && !fields[3].isEmpty()) {
+            try {
+                tokenRevocationService.revoke(Long.parseLong(fields[2]), Instant.ofEpochSecond(Long.parseLong(fields[3])));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 토큰 폐기 메시지 : {}", message);
+            }
+        }
+    }
+
+    private void invalidateLocal(String email, String oauthId) {
+        if (!enabled) {
+            return;
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+        if (oauthId != null) {
+            byOauthId.invalidate(oauthId);
+        }
+    }
+
+    static String toMessage(String email, String oauthId, Long memberId, Instant revokedAt) {
+        return (email != null ? email : "") + "\n"
+                + (oauthId != null ? oauthId : "") + "\n"
+                + (revokedAt != null ? memberId : "") + "\n"
+                + (revokedAt != null ? revokedAt.getEpochSecond() : "");
+    }
+
+    private static Cache<String, MemberSnapshot> buildCache(Long maxSize, Long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+}
@@ -5,16 +5,17 @@ import com.wedit.backend.api.member.dto.MemberLoginResponseDTO;
 import com.wedit.backend.api.member.dto.MemberSignupRequestDTO;
 import com.wedit.backend.api.member.entity.Member;
 import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.event.MemberChangedEvent;
+import com.wedit.backend.api.member.jwt.dto.JwtClaims;
 import com.wedit.backend.api.member.jwt.service.JwtService;
 import com.wedit.backend.api.member.jwt.service.RefreshTokenService;
 import com.wedit.backend.api.member.repository.MemberRepository;
 import com.wedit.backend.common.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 
 @Service
@@ -22,19 +23,23 @@ import java.util.Map;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    // 해시 생성은 수백 ms 가 걸릴 수 있으므로 트랜잭션(커넥션) 밖에서 수행
+    // 중복 확인과 저장은 각각 짧은 트랜잭션으로 처리하고, 동시 가입은 email 유니크 제약으로 막음
     public void signup(MemberSignupRequestDTO dto) {
         if (memberRepository.existsByEmailAndDeletedFalse(dto.getEmail())) {
             throw new IllegalStateException("이미 가입된 이메일입니다.");
         }
 
+        String encodedPassword = passwordHashingService.encode(dto.getPassword());
+
         Member member = Member.builder()
                 .email(dto.getEmail())
-                .password(passwordEncoder.encode(dto.getPassword()))
+                .password(encodedPassword)
                 .name(dto.getName())
                 .role(Role.ROLE_USER)
                 .build();
@@ -42,19 +47,27 @@ public class MemberService {
         memberRepository.save(member);
     }
 
-    @Transactional(readOnly = true)
-    public MemberLoginResponseDTO login(MemberLoginRequestDTO dto) {
+    // 해시 검증/재해시는 수백 ms 가 걸릴 수 있으므로 트랜잭션(커넥션) 밖에서 수행
+    // 회원 조회, 해시 교체, 세션 저장은 각각 짧은 트랜잭션으로 처리
+    public MemberLoginResponseDTO login(MemberLoginRequestDTO dto, String deviceId) {
         Member member = memberRepository.findByEmailAndDeletedFalse(dto.getEmail())
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 사용자입니다."));
 
-        if (member.getPassword() == null || !passwordEncoder.matches(dto.getPassword(), member.getPassword())) {
+        if (member.getPassword() == null || !passwordHashingService.matches(dto.getPassword(), member.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 올바르지 않습니다.");
         }
 
+        // 기본 알고리즘/강도가 바뀐 경우 로그인 성공 시점에 새 해시로 교체
+        if (passwordHashingService.upgradeEncoding(member.getPassword())) {
+            String upgraded = passwordHashingService.encode(dto.getPassword());
+            memberRepository.upgradePassword(member.getId(), member.getPassword(), upgraded);
+        }
+
         Map<String, String> tokens = jwtService.createAccessAndRefreshToken(
                 member.getId(),
                 member.getEmail(),
-                member.getRole()
+                member.getRole(),
+                deviceId
         );
 
         return MemberLoginResponseDTO.builder()
@@ -73,31 +86,44 @@ public class MemberService {
 
         refreshTokenService.deleteAllByMemberId(memberId);
         member.markDeleted();
+
+        // 이미 발급된 Access Token 도 커밋 이후 무효화 (Stateless 모드 대비, 모든 인스턴스에 전파)
+        eventPublisher.publishEvent(MemberChangedEvent.revokingTokens(member));
     }
 
     @Transactional
-    public MemberLoginResponseDTO reissueTokens(String refreshToken) {
-        if (!jwtService.isTokenValid(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+    public void changeRole(Long memberId, Role role) {
+        Member member = memberRepository.findByIdAndDeletedFalse(memberId)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 사용자입니다."));
+        if (member.getRole() == role) {
+            return;
         }
 
-        return refreshTokenService.findByToken(refreshToken)
-                .filter(token -> token.getExpiresAt().isAfter(LocalDateTime.now()))
-                .map(token -> {
-                    Member member = token.getMember();
-                    if (member.isDeleted()) {
-                        throw new NotFoundException("존재하지 않는 사용자입니다.");
-                    }
-                    Map<String, String> tokens = jwtService.createAccessAndRefreshToken(
-                            member.getId(),
-                            member.getEmail(),
-                            member.getRole()
-                    );
-                    return MemberLoginResponseDTO.builder()
-                            .accessToken(tokens.get("accessToken"))
-                            .refreshToken(tokens.get("refreshToken"))
-                            .build();
-                })
+        member.updateRole(role);
+
+        // 이전 권한이 담긴 Access Token 은 커밋 이후 무효화
+        eventPublisher.publishEvent(MemberChangedEvent.revokingTokens(member));
+    }
+
+    // 재발급 시 DB 작업: 회원 조회 1회 + Refresh Token 교체 UPDATE 1회
+    @Transactional
+    public MemberLoginResponseDTO reissueTokens(String refreshToken) {
+        JwtClaims claims = jwtService.parseAndVerify(refreshToken)
+                .filter(JwtClaims::isRefreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+
+        Member member = memberRepository.findByIdAndDeletedFalse(claims.memberId())
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 사용자입니다."));
+
+        // 동일 토큰으로 동시에 재발급 요청 시 한 요청만 교체에 성공
+        String newRefreshToken = jwtService.rotateRefreshToken(member.getId(), refreshToken)
                 .orElseThrow(() -> new NotFoundException("저장된 리프레시 토큰이 없습니다."));
+
+        String newAccessToken = jwtService.createAccessToken(member.getId(), member.getEmail(), member.getRole());
+
+        return MemberLoginResponseDTO.builder()
+                .accessToken(newAccessToken)
+                .refreshToken(newRefreshToken)
+                .build();
     }
 }
@@ -0,0 +1,28 @@
+package com.wedit.backend.api.product.actuator;
+
+import com.wedit.backend.api.product.service.ItemGroupMinPriceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/// 최저가 전체 재계산 (POST /actuator/itemgroupminprice)
+/// management.endpoints.web.exposure.include 에 추가한 환경에서만 노출되며, ROLE_ADMIN 권한이 필요함 (SecurityConfig)
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "itemgroupminprice")
+public class ItemGroupMinPriceEndpoint {
+
+    private final ItemGroupMinPriceService itemGroupMinPriceService;
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        long rebuilt = itemGroupMinPriceService.rebuildAll();
+        if (rebuilt < 0) {
+            return Map.of("status", "ALREADY_RUNNING");
+        }
+        return Map.of("status", "COMPLETED", "rebuilt", rebuilt);
+    }
+}
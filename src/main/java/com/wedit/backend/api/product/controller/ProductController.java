@@ -0,0 +1,66 @@
+package com.wedit.backend.api.product.controller;
+
+import com.wedit.backend.api.product.dto.ProductDetailResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteBatchRequestDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteBatchResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteRequestDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteResponseDTO;
+import com.wedit.backend.api.product.service.ProductQuoteService;
+import com.wedit.backend.api.product.service.ProductService;
+import com.wedit.backend.common.response.ApiResponse;
+import com.wedit.backend.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Product", description = "상품 관련 API 입니다.")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/product")
+public class ProductController {
+
+    private final ProductService productService;
+    private final ProductQuoteService productQuoteService;
+
+    @Operation(summary = "상품 상세 조회",
+            description = "상품 정보와 업체, 옵션 그룹/상세, 이미지 목록을 함께 조회합니다.")
+    @GetMapping("/{productId}")
+    public ResponseEntity<ApiResponse<ProductDetailResponseDTO>> getProductDetail(
+            @PathVariable Long productId
+    ) {
+        ProductDetailResponseDTO responseDTO = productService.getProductDetail(productId);
+
+        return ApiResponse.success(SuccessStatus.PRODUCT_DETAIL_SUCCESS, responseDTO);
+    }
+
+    @Operation(summary = "상품 견적 계산",
+            description = "선택한 옵션과 수량으로 견적을 계산합니다. 필수 옵션, 선택 개수, 품절 여부, 최대 수량을 검증하고 항목별 금액과 합계를 반환합니다.")
+    @PostMapping("/{productId}/quote")
+    public ResponseEntity<ApiResponse<ProductQuoteResponseDTO>> quote(
+            @PathVariable Long productId,
+            @Valid @RequestBody ProductQuoteRequestDTO requestDTO
+    ) {
+        ProductQuoteResponseDTO responseDTO = productQuoteService.quote(productId, requestDTO.selections());
+
+        return ApiResponse.success(SuccessStatus.PRODUCT_QUOTE_SUCCESS, responseDTO);
+    }
+
+    @Operation(summary = "상품 견적 일괄 계산",
+            description = "여러 업체의 상품 견적을 한 번에 계산합니다. (최대 50개) 항목별 결과와 전체 합계를 반환하며, 일부 항목이 실패해도 나머지 항목은 계산됩니다.")
+    @PostMapping("/quotes")
+    public ResponseEntity<ApiResponse<ProductQuoteBatchResponseDTO>> quoteBatch(
+            @Valid @RequestBody ProductQuoteBatchRequestDTO requestDTO
+    ) {
+        ProductQuoteBatchResponseDTO responseDTO = productQuoteService.quoteBatch(requestDTO.items());
+
+        return ApiResponse.success(SuccessStatus.PRODUCT_QUOTE_BATCH_SUCCESS, responseDTO);
+    }
+}
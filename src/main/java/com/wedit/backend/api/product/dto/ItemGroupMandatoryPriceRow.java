@@ -0,0 +1,10 @@
+package com.wedit.backend.api.product.dto;
+
+/// 최저가 계산용 필수 옵션 가격 행 (판매 가능한 상세가 없으면 price 는 null)
+public record ItemGroupMandatoryPriceRow(
+        Long productId,
+        Long optionGroupId,
+        Integer minSelectCount,
+        Long price
+) {
+}
@@ -0,0 +1,8 @@
+package com.wedit.backend.api.product.dto;
+
+/// 최저가 계산용 노출 상품 기본 가격 행
+public record ItemGroupProductPriceRow(
+        Long productId,
+        Long basePrice
+) {
+}
@@ -0,0 +1,51 @@
+package com.wedit.backend.api.product.dto;
+
+import com.wedit.backend.api.product.entity.ItemGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.api.vendor.entity.Vendor;
+import com.wedit.backend.api.vendor.entity.VendorCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 상세 조회 응답 DTO")
+public record ProductDetailResponseDTO(
+        Long productId,
+        String name,
+        Long basePrice,
+        List<String> tags,
+        Long itemGroupId,
+        String itemGroupName,
+        String itemGroupDescription,
+        Long vendorId,
+        String vendorName,
+        VendorCategory vendorCategory,
+        String vendorRegion,
+        List<ProductOptionGroupResponseDTO> optionGroups,
+        List<ProductMediaResponseDTO> mediaList
+) {
+
+    // 하위 목록은 불변 리스트로 복사하여 응답 트리 전체를 불변으로 유지
+    public static ProductDetailResponseDTO of(Product product,
+                                              List<ProductOptionGroupResponseDTO> optionGroups,
+                                              List<ProductMediaResponseDTO> mediaList) {
+        ItemGroup itemGroup = product.getItemGroup();
+        Vendor vendor = itemGroup.getVendor();
+
+        return new ProductDetailResponseDTO(
+                product.getId(),
+                product.getName(),
+                product.getBasePrice(),
+                product.getTags() != null ? List.copyOf(product.getTags()) : List.of(),
+                itemGroup.getId(),
+                itemGroup.getName(),
+                itemGroup.getDescription(),
+                vendor.getId(),
+                vendor.getName(),
+                vendor.getCategory(),
+                vendor.getRegion(),
+                List.copyOf(optionGroups),
+                List.copyOf(mediaList)
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.wedit.backend.api.product.dto;
+
+import com.wedit.backend.api.product.entity.ProductMedia;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 미디어 응답 DTO")
+public record ProductMediaResponseDTO(
+        Long mediaId,
+        String url,
+        Integer ordering
+) {
+
+    public static ProductMediaResponseDTO from(ProductMedia media) {
+        return new ProductMediaResponseDTO(
+                media.getId(),
+                media.getUrl(),
+                media.getOrdering()
+        );
+    }
+}
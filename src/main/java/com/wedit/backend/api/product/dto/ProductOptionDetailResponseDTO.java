@@ -0,0 +1,26 @@
+package com.wedit.backend.api.product.dto;
+
+import com.wedit.backend.api.product.entity.OptionDetail;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 옵션 상세 응답 DTO")
+public record ProductOptionDetailResponseDTO(
+        Long optionDetailId,
+        String name,
+        Long price,
+        String unit,            // 수량 기반 옵션이 아니면 null
+        Integer maxCount,
+        Boolean isSoldOut
+) {
+
+    public static ProductOptionDetailResponseDTO from(OptionDetail optionDetail) {
+        return new ProductOptionDetailResponseDTO(
+                optionDetail.getId(),
+                optionDetail.getName(),
+                optionDetail.getPrice(),
+                optionDetail.getUnit(),
+                optionDetail.getMaxCount(),
+                optionDetail.isSoldOut()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.wedit.backend.api.product.dto;
+
+import com.wedit.backend.api.product.entity.OptionGroup;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 옵션 그룹 응답 DTO")
+public record ProductOptionGroupResponseDTO(
+        Long optionGroupId,
+        String name,
+        Boolean isMandatory,
+        Integer minSelectCount,
+        Integer maxSelectCount,
+        List<ProductOptionDetailResponseDTO> optionDetails
+) {
+
+    public static ProductOptionGroupResponseDTO of(OptionGroup optionGroup,
+                                                   List<ProductOptionDetailResponseDTO> optionDetails) {
+        return new ProductOptionGroupResponseDTO(
+                optionGroup.getId(),
+                optionGroup.getName(),
+                optionGroup.isMandatory(),
+                optionGroup.getMinSelectCount(),
+                optionGroup.getMaxSelectCount(),
+                List.copyOf(optionDetails)
+        );
+    }
+}
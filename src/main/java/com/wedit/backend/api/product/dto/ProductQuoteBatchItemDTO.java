@@ -0,0 +1,19 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "일괄 견적 항목 DTO")
+public record ProductQuoteBatchItemDTO(
+        @NotNull(message = "상품 ID는 필수입니다.")
+        Long productId,
+
+        @NotNull(message = "선택한 옵션 목록은 필수입니다.")
+        @Size(max = ProductQuoteRequestDTO.MAX_SELECTIONS, message = "한 번에 선택할 수 있는 옵션 수를 초과했습니다.")
+        List<@Valid @NotNull ProductQuoteSelectionDTO> selections
+) {
+}
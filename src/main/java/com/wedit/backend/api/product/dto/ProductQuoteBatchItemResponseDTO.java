@@ -0,0 +1,22 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 견적 항목 결과 DTO")
+public record ProductQuoteBatchItemResponseDTO(
+        Integer index,                  // 요청 목록에서의 순서
+        Long productId,
+        Boolean success,
+        ProductQuoteResponseDTO quote,  // 실패 시 null
+        Integer errorStatus,            // 성공 시 null
+        String errorMessage             // 성공 시 null
+) {
+
+    public static ProductQuoteBatchItemResponseDTO success(int index, ProductQuoteResponseDTO quote) {
+        return new ProductQuoteBatchItemResponseDTO(index, quote.productId(), true, quote, null, null);
+    }
+
+    public static ProductQuoteBatchItemResponseDTO failure(int index, Long productId, int errorStatus, String errorMessage) {
+        return new ProductQuoteBatchItemResponseDTO(index, productId, false, null, errorStatus, errorMessage);
+    }
+}
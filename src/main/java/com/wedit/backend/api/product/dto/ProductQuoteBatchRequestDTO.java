@@ -0,0 +1,19 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "일괄 견적 요청 DTO")
+public record ProductQuoteBatchRequestDTO(
+        @NotEmpty(message = "견적 항목은 1개 이상이어야 합니다.")
+        @Size(max = ProductQuoteBatchRequestDTO.MAX_ITEMS, message = "한 번에 요청할 수 있는 견적 수를 초과했습니다.")
+        List<@Valid @NotNull ProductQuoteBatchItemDTO> items
+) {
+
+    public static final int MAX_ITEMS = 50;
+}
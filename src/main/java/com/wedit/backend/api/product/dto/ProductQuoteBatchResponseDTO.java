@@ -0,0 +1,14 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "일괄 견적 응답 DTO")
+public record ProductQuoteBatchResponseDTO(
+        List<ProductQuoteBatchItemResponseDTO> items,   // 요청 순서와 동일
+        Integer successCount,
+        Integer failureCount,
+        Long grandTotalPrice                            // 성공한 견적 합계
+) {
+}
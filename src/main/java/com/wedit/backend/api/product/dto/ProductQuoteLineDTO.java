@@ -0,0 +1,16 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "견적 옵션 항목 DTO")
+public record ProductQuoteLineDTO(
+        Long optionGroupId,
+        String optionGroupName,
+        Long optionDetailId,
+        String optionName,
+        Long unitPrice,
+        Integer quantity,
+        String unit,            // 수량 기반 옵션이 아니면 null
+        Long amount             // unitPrice * quantity
+) {
+}
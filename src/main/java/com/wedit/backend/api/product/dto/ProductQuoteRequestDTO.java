@@ -0,0 +1,18 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "상품 견적 요청 DTO")
+public record ProductQuoteRequestDTO(
+        @NotNull(message = "선택한 옵션 목록은 필수입니다.")
+        @Size(max = ProductQuoteRequestDTO.MAX_SELECTIONS, message = "한 번에 선택할 수 있는 옵션 수를 초과했습니다.")
+        List<@Valid @NotNull ProductQuoteSelectionDTO> selections
+) {
+
+    public static final int MAX_SELECTIONS = 200;
+}
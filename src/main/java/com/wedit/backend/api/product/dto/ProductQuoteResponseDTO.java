@@ -0,0 +1,15 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 견적 응답 DTO")
+public record ProductQuoteResponseDTO(
+        Long productId,
+        String productName,
+        Long basePrice,
+        List<ProductQuoteLineDTO> lines,
+        Long totalPrice         // basePrice + 옵션 금액 합계
+) {
+}
@@ -0,0 +1,15 @@
+package com.wedit.backend.api.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "견적 옵션 선택 DTO")
+public record ProductQuoteSelectionDTO(
+        @NotNull(message = "옵션 ID는 필수입니다.")
+        Long optionDetailId,
+
+        @Positive(message = "수량은 1 이상이어야 합니다.")
+        Integer quantity        // 수량 기반 옵션만 지정, 생략 시 1
+) {
+}
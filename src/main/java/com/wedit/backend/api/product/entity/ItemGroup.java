@@ -28,7 +28,7 @@ public class ItemGroup extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    private Long cachedMinPrice;
+    private Long cachedMinPrice;    // 노출 중인 상품의 최저가 (상품이 없으면 null, ItemGroupMinPriceService 가 유지)
 
     @Column(nullable = false)
     private boolean isDeleted = false;
@@ -38,7 +38,7 @@ public class ItemGroup extends BaseTimeEntity {
         this.vendor = vendor;
         this.name = name;
         this.description = description;
-        this.cachedMinPrice = 0L;
+        this.cachedMinPrice = null;     // 0 원으로 노출되지 않도록, 상품이 등록되어 재계산되기 전까지는 가격 없음
     }
 
     public void assignVendor(Vendor vendor) {
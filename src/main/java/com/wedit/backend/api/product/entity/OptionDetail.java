@@ -1,5 +1,6 @@
 package com.wedit.backend.api.product.entity;
 
+import com.wedit.backend.api.product.listener.ItemGroupPriceEntityListener;
 import com.wedit.backend.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@EntityListeners(ItemGroupPriceEntityListener.class)
 @Table(name = "option_details")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OptionDetail extends BaseTimeEntity {
@@ -1,5 +1,6 @@
 package com.wedit.backend.api.product.entity;
 
+import com.wedit.backend.api.product.listener.ItemGroupPriceEntityListener;
 import com.wedit.backend.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -12,6 +13,7 @@ import java.util.List;
 
 @Getter
 @Entity
+@EntityListeners(ItemGroupPriceEntityListener.class)
 @Table(name = "option_groups")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OptionGroup extends BaseTimeEntity {
@@ -1,6 +1,7 @@
 package com.wedit.backend.api.product.entity;
 
 import com.wedit.backend.api.agency.entity.Agency;
+import com.wedit.backend.api.product.listener.ItemGroupPriceEntityListener;
 import com.wedit.backend.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -15,6 +16,7 @@ import java.util.List;
 
 @Getter
 @Entity
+@EntityListeners(ItemGroupPriceEntityListener.class)
 @Table(name = "products")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseTimeEntity {
@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "product_media")
+@Table(name = "product_media",
+        indexes = {
+                @Index(name = "idx_product_media_file_key", columnList = "fileKey")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductMedia extends BaseMedia {
 
@@ -0,0 +1,32 @@
+package com.wedit.backend.api.product.event;
+
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import org.hibernate.Hibernate;
+
+/// 상품 가격(아이템 그룹 최저가, 견적 가격표) 에 영향을 주는 변경 이벤트
+/// 엔티티 리스너에서 추가 조회 없이 알 수 있는 ID 만 담고, 나머지는 소비하는 쪽에서 해석
+/// (지연 로딩 프록시의 ID 접근은 초기화를 일으키지 않음)
+public record ItemGroupPriceChangedEvent(
+        Long itemGroupId,
+        Long productId,
+        Long optionGroupId
+) {
+
+    public static ItemGroupPriceChangedEvent from(Product product) {
+        return new ItemGroupPriceChangedEvent(product.getItemGroup().getId(), product.getId(), null);
+    }
+
+    // 옵션 그룹 삭제 시에는 행이 사라지므로 상품 기준으로 해석
+    public static ItemGroupPriceChangedEvent from(OptionGroup optionGroup) {
+        return new ItemGroupPriceChangedEvent(null, optionGroup.getProduct().getId(), null);
+    }
+
+    // 옵션 그룹이 이미 로딩되어 있으면 상품 ID 까지 담아 소비하는 쪽의 상품 ID 조회를 생략
+    public static ItemGroupPriceChangedEvent from(OptionDetail optionDetail) {
+        OptionGroup optionGroup = optionDetail.getOptionGroup();
+        Long productId = Hibernate.isInitialized(optionGroup) ? optionGroup.getProduct().getId() : null;
+        return new ItemGroupPriceChangedEvent(null, productId, optionGroup.getId());
+    }
+}
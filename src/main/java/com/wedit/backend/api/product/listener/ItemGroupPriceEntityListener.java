@@ -0,0 +1,34 @@
+package com.wedit.backend.api.product.listener;
+
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.api.product.event.ItemGroupPriceChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/// Product / OptionGroup / OptionDetail 변경 시 최저가 재계산 이벤트 발행
+/// flush 도중 호출되므로 지연 로딩 프록시는 ID 만 읽고 초기화하지 않는다.
+@Component
+@RequiredArgsConstructor
+public class ItemGroupPriceEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Product product) {
+            eventPublisher.publishEvent(ItemGroupPriceChangedEvent.from(product));
+        } else if (entity instanceof OptionGroup optionGroup) {
+            eventPublisher.publishEvent(ItemGroupPriceChangedEvent.from(optionGroup));
+        } else if (entity instanceof OptionDetail optionDetail) {
+            eventPublisher.publishEvent(ItemGroupPriceChangedEvent.from(optionDetail));
+        }
+    }
+}
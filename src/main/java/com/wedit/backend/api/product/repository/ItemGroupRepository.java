@@ -0,0 +1,26 @@
+package com.wedit.backend.api.product.repository;
+
+import com.wedit.backend.api.product.entity.ItemGroup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ItemGroupRepository extends JpaRepository<ItemGroup, Long> {
+
+    // 최저가 재계산 직렬화용 (늦게 잠근 쪽이 최신 커밋 상태를 읽고 기록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select ig from ItemGroup ig where ig.id = :itemGroupId")
+    Optional<ItemGroup> findForUpdateById(@Param("itemGroupId") Long itemGroupId);
+
+    // 전체 재계산용 키셋 페이지 조회
+    @Query("select ig.id from ItemGroup ig where ig.id > :afterId order by ig.id asc")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+}
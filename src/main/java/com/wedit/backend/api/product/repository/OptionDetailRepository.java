@@ -0,0 +1,20 @@
+package com.wedit.backend.api.product.repository;
+
+import com.wedit.backend.api.product.entity.OptionDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OptionDetailRepository extends JpaRepository<OptionDetail, Long> {
+
+    // 여러 옵션 그룹의 상세를 한 번에 조회 (그룹 수와 무관하게 쿼리 1회)
+    @Query("select d from OptionDetail d " +
+            "where d.optionGroup.id in :optionGroupIds " +
+            "order by d.optionGroup.id asc, d.ordering asc, d.id asc")
+    List<OptionDetail> findByOptionGroupIdIn(@Param("optionGroupIds") Collection<Long> optionGroupIds);
+}
@@ -0,0 +1,39 @@
+package com.wedit.backend.api.product.repository;
+
+import com.wedit.backend.api.product.dto.ItemGroupMandatoryPriceRow;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OptionGroupRepository extends JpaRepository<OptionGroup, Long> {
+
+    @Query("select og from OptionGroup og where og.product.id = :productId order by og.ordering asc, og.id asc")
+    List<OptionGroup> findByProductIdOrderByOrdering(@Param("productId") Long productId);
+
+    // 여러 상품의 옵션 그룹을 한 번에 조회 (상품 내 정렬 순서 유지)
+    @Query("select og from OptionGroup og where og.product.id in :productIds order by og.ordering asc, og.id asc")
+    List<OptionGroup> findByProductIdInOrderByOrdering(@Param("productIds") Collection<Long> productIds);
+
+    @Query("select og.product.id from OptionGroup og where og.id = :optionGroupId")
+    Optional<Long> findProductIdById(@Param("optionGroupId") Long optionGroupId);
+
+    @Query("select distinct og.product.itemGroup.id from OptionGroup og where og.id in :optionGroupIds")
+    List<Long> findItemGroupIdsByIdIn(@Param("optionGroupIds") Collection<Long> optionGroupIds);
+
+    // 노출 상품의 필수 옵션 그룹별 판매 가능 상세 가격 (그룹별 가격 오름차순)
+    @Query("select new com.wedit.backend.api.product.dto.ItemGroupMandatoryPriceRow(p.id, og.id, og.minSelectCount, d.price) " +
+            "from OptionGroup og " +
+            "join og.product p " +
+            "left join og.optionDetails d on d.isSoldOut = false " +
+            "where p.itemGroup.id = :itemGroupId and p.isVisible = true and p.isDeleted = false " +
+            "and og.isMandatory = true " +
+            "order by og.id asc, d.price asc")
+    List<ItemGroupMandatoryPriceRow> findMandatoryPricesByItemGroupId(@Param("itemGroupId") Long itemGroupId);
+}
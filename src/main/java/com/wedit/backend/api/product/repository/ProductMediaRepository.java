@@ -2,12 +2,21 @@ package com.wedit.backend.api.product.repository;
 
 import com.wedit.backend.api.product.entity.ProductMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProductMediaRepository extends JpaRepository<ProductMedia, Long> {
 
     List<ProductMedia> findByProductId(Long productId);
+
+    List<ProductMedia> findByProductIdOrderByOrderingAsc(Long productId);
+
+    // 주어진 키 중 등록된 키만 조회 (S3 고아 객체 점검용, file_key 인덱스 사용)
+    @Query("select m.fileKey from ProductMedia m where m.fileKey in :fileKeys")
+    List<String> findExistingFileKeys(@Param("fileKeys") Collection<String> fileKeys);
 }
@@ -0,0 +1,34 @@
+package com.wedit.backend.api.product.repository;
+
+import com.wedit.backend.api.product.dto.ItemGroupProductPriceRow;
+import com.wedit.backend.api.product.entity.Product;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // 상세 조회용: 상품 + 아이템 그룹 + 업체를 한 번에 조회 (ToOne 관계만 fetch join), 삭제된 아이템 그룹의 상품은 제외
+    @Query("select p from Product p " +
+            "join fetch p.itemGroup ig " +
+            "join fetch ig.vendor " +
+            "where p.id = :productId and p.isVisible = true and p.isDeleted = false and ig.isDeleted = false")
+    Optional<Product> findDetailById(@Param("productId") Long productId);
+
+    List<Product> findByIdInAndIsVisibleTrueAndIsDeletedFalse(Collection<Long> productIds);
+
+    @Query("select distinct p.itemGroup.id from Product p where p.id in :productIds")
+    List<Long> findItemGroupIdsByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 최저가 계산 대상: 노출 중이고 삭제되지 않은 상품
+    @Query("select new com.wedit.backend.api.product.dto.ItemGroupProductPriceRow(p.id, p.basePrice) " +
+            "from Product p " +
+            "where p.itemGroup.id = :itemGroupId and p.isVisible = true and p.isDeleted = false")
+    List<ItemGroupProductPriceRow> findVisiblePricesByItemGroupId(@Param("itemGroupId") Long itemGroupId);
+}
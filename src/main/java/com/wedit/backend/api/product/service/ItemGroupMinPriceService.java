@@ -0,0 +1,227 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.product.dto.ItemGroupMandatoryPriceRow;
+import com.wedit.backend.api.product.dto.ItemGroupProductPriceRow;
+import com.wedit.backend.api.product.event.ItemGroupPriceChangedEvent;
+import com.wedit.backend.api.product.repository.ItemGroupRepository;
+import com.wedit.backend.api.product.repository.OptionGroupRepository;
+import com.wedit.backend.api.product.repository.ProductRepository;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// ItemGroup.cachedMinPrice 증분 유지
+/// 변경 이벤트는 커밋 이후 대기열(Set)에 쌓이고, 짧은 주기로 모아서 영향받은 아이템 그룹만 1회씩 재계산
+///
+/// 최저가 = 노출 중인 상품별 (기본 가격 + 필수 옵션 그룹별 판매 가능한 상세 중 저렴한 minSelectCount 개의 합) 의 최솟값
+/// 필수 옵션을 채울 수 없는 상품은 제외하고, 구매 가능한 상품이 없으면 null
+@Service
+@Slf4j
+public class ItemGroupMinPriceService {
+
+    private static final String REBUILD_JOB_NAME = "item-group-min-price-rebuild";
+
+    private final ItemGroupRepository itemGroupRepository;
+    private final ProductRepository productRepository;
+    private final OptionGroupRepository optionGroupRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter recomputedGroups;
+
+    // 재계산 대기 ID (중복 변경은 하나로 합쳐짐)
+    private final Set<Long> pendingItemGroupIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingProductIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingOptionGroupIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.product.min-price.rebuild-chunk-size:500}")
+    private Integer rebuildChunkSize;
+
+    public ItemGroupMinPriceService(ItemGroupRepository itemGroupRepository,
+                                    ProductRepository productRepository,
+                                    OptionGroupRepository optionGroupRepository,
+                                    JobLockService jobLockService,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry) {
+        this.itemGroupRepository = itemGroupRepository;
+        this.productRepository = productRepository;
+        this.optionGroupRepository = optionGroupRepository;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.recomputedGroups = Counter.builder("product.min-price.recomputed")
+                .description("최저가를 재계산한 아이템 그룹 수")
+                .register(meterRegistry);
+    }
+
+    // 롤백된 변경은 반영하지 않도록 커밋 이후에만 대기열에 추가
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(ItemGroupPriceChangedEvent event) {
+        // 가장 직접적인 ID 만 사용 (아이템 그룹 > 상품 > 옵션 그룹)
+        if (event.itemGroupId() != null) {
+            pendingItemGroupIds.add(event.itemGroupId());
+        } else if (event.productId() != null) {
+            pendingProductIds.add(event.productId());
+        } else if (event.optionGroupId() != null) {
+            pendingOptionGroupIds.add(event.optionGroupId());
+        }
+    }
+
+    // 대기열을 비우고 영향받은 아이템 그룹을 재계산 (주기 동안의 연속 변경은 1회로 합쳐짐)
+    @Scheduled(fixedDelayString = "${app.product.min-price.coalesce-interval-ms:2000}")
+    public void flushPending() {
+        Set<Long> itemGroupIds = drain(pendingItemGroupIds);
+        Set<Long> productIds = drain(pendingProductIds);
+        Set<Long> optionGroupIds = drain(pendingOptionGroupIds);
+
+        try {
+            if (!productIds.isEmpty()) {
+                itemGroupIds.addAll(productRepository.findItemGroupIdsByIdIn(productIds));
+            }
+            if (!optionGroupIds.isEmpty()) {
+                itemGroupIds.addAll(optionGroupRepository.findItemGroupIdsByIdIn(optionGroupIds));
+            }
+        } catch (Exception e) {
+            // 비운 대기열을 되돌려 다음 주기에 재시도 (변경 이벤트 유실 방지)
+            log.warn("[Product] 최저가 재계산 대상 조회 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+            pendingItemGroupIds.addAll(itemGroupIds);
+            pendingProductIds.addAll(productIds);
+            pendingOptionGroupIds.addAll(optionGroupIds);
+            return;
+        }
+
+        for (Long itemGroupId : itemGroupIds) {
+            try {
+                recompute(itemGroupId);
+            } catch (Exception e) {
+                // 다음 주기에 재시도
+                log.warn("[Product] 최저가 재계산 실패 - itemGroupId: {} : {}", itemGroupId, e.getMessage());
+                pendingItemGroupIds.add(itemGroupId);
+            }
+        }
+    }
+
+    /***
+     * 전체 아이템 그룹 최저가 재계산 (백필용)
+     * ID 키셋 페이지 단위로 조회하며, 그룹마다 짧은 트랜잭션으로 처리
+     * @return 재계산한 아이템 그룹 수, 다른 인스턴스에서 실행 중이면 -1
+     */
+    public long rebuildAll() {
+
+        if (!jobLockService.tryLock(REBUILD_JOB_NAME, Duration.ofHours(1))) {
+            return -1;
+        }
+
+        try {
+            long rebuilt = 0;
+            long lastId = 0L;
+
+            while (true) {
+                List<Long> ids = itemGroupRepository.findIdsAfter(lastId, Limit.of(rebuildChunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                for (Long itemGroupId : ids) {
+                    recompute(itemGroupId);
+                }
+                rebuilt += ids.size();
+                lastId = ids.get(ids.size() - 1);
+            }
+
+            log.info("[Product] 최저가 전체 재계산 완료 - {} 건", rebuilt);
+            return rebuilt;
+        } finally {
+            jobLockService.unlock(REBUILD_JOB_NAME);
+        }
+    }
+
+    // 아이템 그룹 행을 잠근 뒤 계산하여, 여러 인스턴스가 동시에 재계산해도 최신 커밋 상태가 마지막에 기록됨
+    public void recompute(Long itemGroupId) {
+        transactionTemplate.executeWithoutResult(status ->
+                itemGroupRepository.findForUpdateById(itemGroupId).ifPresent(itemGroup -> {
+                    Long minPrice = calculateMinPrice(itemGroupId);
+                    if (!Objects.equals(itemGroup.getCachedMinPrice(), minPrice)) {
+                        itemGroup.updateCachedMinPrice(minPrice);
+                    }
+                }));
+        recomputedGroups.increment();
+    }
+
+    private Long calculateMinPrice(Long itemGroupId) {
+        List<ItemGroupProductPriceRow> products = productRepository.findVisiblePricesByItemGroupId(itemGroupId);
+        if (products.isEmpty()) {
+            return null;
+        }
+
+        // 옵션 그룹 ID 순, 그룹 내 가격 오름차순으로 정렬된 행
+        Map<Long, Long> optionGroupProductIds = new HashMap<>();
+        Map<Long, Integer> requiredCounts = new HashMap<>();
+        Map<Long, List<Long>> availablePrices = new HashMap<>();
+        for (ItemGroupMandatoryPriceRow row : optionGroupRepository.findMandatoryPricesByItemGroupId(itemGroupId)) {
+            optionGroupProductIds.putIfAbsent(row.optionGroupId(), row.productId());
+            requiredCounts.putIfAbsent(row.optionGroupId(),
+                    row.minSelectCount() != null ? Math.max(row.minSelectCount(), 1) : 1);
+            List<Long> prices = availablePrices.computeIfAbsent(row.optionGroupId(), id -> new ArrayList<>());
+            if (row.price() != null) {
+                prices.add(row.price());
+            }
+        }
+
+        // 상품별 필수 옵션 최소 추가 금액 (채울 수 없는 상품은 null)
+        Map<Long, Long> mandatoryTotals = new HashMap<>();
+        Set<Long> unavailableProductIds = new HashSet<>();
+        optionGroupProductIds.forEach((optionGroupId, productId) -> {
+            List<Long> prices = availablePrices.get(optionGroupId);
+            int required = requiredCounts.get(optionGroupId);
+            if (prices.size() < required) {
+                unavailableProductIds.add(productId);
+                return;
+            }
+            long cheapest = 0;
+            for (int i = 0; i < required; i++) {
+                cheapest += prices.get(i);
+            }
+            mandatoryTotals.merge(productId, cheapest, Long::sum);
+        });
+
+        Long minPrice = null;
+        for (ItemGroupProductPriceRow product : products) {
+            if (unavailableProductIds.contains(product.productId())) {
+                continue;
+            }
+            long price = product.basePrice() + mandatoryTotals.getOrDefault(product.productId(), 0L);
+            if (minPrice == null || price < minPrice) {
+                minPrice = price;
+            }
+        }
+        return minPrice;
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Long id : pending) {
+            if (pending.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+}
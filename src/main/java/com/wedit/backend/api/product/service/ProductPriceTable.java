@@ -0,0 +1,202 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.product.dto.ProductQuoteLineDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteSelectionDTO;
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.common.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// 상품 1건의 견적 계산용 불변 가격표
+/// 옵션 그룹/상세를 정렬 순서대로 ordinal 을 부여해 원시 배열에 저장하고,
+/// 상세 ID -> ordinal 은 정렬된 ID 배열의 이진 탐색으로 변환 (계산 중 DB/Map 접근 없음)
+final class ProductPriceTable {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final long productId;
+    private final String productName;
+    private final long basePrice;
+
+    // 옵션 그룹 (group ordinal 기준)
+    private final long[] groupIds;
+    private final String[] groupNames;
+    private final int[] groupMinSelect;
+    private final int[] groupMaxSelect;
+    private final boolean[] groupMandatory;
+
+    // 옵션 상세 (detail ordinal 기준)
+    private final long[] detailIds;
+    private final String[] detailNames;
+    private final long[] detailPrices;
+    private final int[] detailGroup;        // 소속 group ordinal
+    private final int[] detailMaxCount;     // 제한 없으면 UNLIMITED
+    private final String[] detailUnits;     // 수량 기반 옵션이 아니면 null
+    private final boolean[] detailSoldOut;
+
+    // 상세 ID 오름차순 정렬 인덱스
+    private final long[] sortedDetailIds;
+    private final int[] sortedDetailOrdinals;
+
+    private ProductPriceTable(Product product, List<OptionGroup> optionGroups, List<OptionDetail> optionDetails) {
+        this.productId = product.getId();
+        this.productName = product.getName();
+        this.basePrice = product.getBasePrice();
+
+        int groupCount = optionGroups.size();
+        this.groupIds = new long[groupCount];
+        this.groupNames = new String[groupCount];
+        this.groupMinSelect = new int[groupCount];
+        this.groupMaxSelect = new int[groupCount];
+        this.groupMandatory = new boolean[groupCount];
+
+        Map<Long, Integer> groupOrdinals = new HashMap<>();
+        for (int g = 0; g < groupCount; g++) {
+            OptionGroup group = optionGroups.get(g);
+            groupIds[g] = group.getId();
+            groupNames[g] = group.getName();
+            groupMandatory[g] = group.isMandatory();
+            groupMinSelect[g] = group.getMinSelectCount() != null
+                    ? group.getMinSelectCount()
+                    : (group.isMandatory() ? 1 : 0);
+            groupMaxSelect[g] = group.getMaxSelectCount() != null ? group.getMaxSelectCount() : 1;
+            groupOrdinals.put(group.getId(), g);
+        }
+
+        // 다른 상품의 옵션 그룹에 속한 상세는 제외
+        List<OptionDetail> details = optionDetails.stream()
+                .filter(detail -> groupOrdinals.containsKey(detail.getOptionGroup().getId()))
+                .toList();
+
+        int detailCount = details.size();
+        this.detailIds = new long[detailCount];
+        this.detailNames = new String[detailCount];
+        this.detailPrices = new long[detailCount];
+        this.detailGroup = new int[detailCount];
+        this.detailMaxCount = new int[detailCount];
+        this.detailUnits = new String[detailCount];
+        this.detailSoldOut = new boolean[detailCount];
+
+        for (int d = 0; d < detailCount; d++) {
+            OptionDetail detail = details.get(d);
+            detailIds[d] = detail.getId();
+            detailNames[d] = detail.getName();
+            detailPrices[d] = detail.getPrice();
+            detailGroup[d] = groupOrdinals.get(detail.getOptionGroup().getId());
+            detailMaxCount[d] = detail.getMaxCount() != null ? detail.getMaxCount() : UNLIMITED;
+            detailUnits[d] = detail.getUnit();
+            detailSoldOut[d] = detail.isSoldOut();
+        }
+
+        Integer[] order = new Integer[detailCount];
+        for (int d = 0; d < detailCount; d++) {
+            order[d] = d;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(detailIds[a], detailIds[b]));
+
+        this.sortedDetailIds = new long[detailCount];
+        this.sortedDetailOrdinals = new int[detailCount];
+        for (int i = 0; i < detailCount; i++) {
+            sortedDetailIds[i] = detailIds[order[i]];
+            sortedDetailOrdinals[i] = order[i];
+        }
+    }
+
+    /***
+     * 가격표 생성
+     * @param optionGroups 정렬 순서대로 조회한 상품의 옵션 그룹
+     * @param optionDetails 옵션 그룹/정렬 순서대로 조회한 옵션 상세
+     */
+    static ProductPriceTable compile(Product product, List<OptionGroup> optionGroups, List<OptionDetail> optionDetails) {
+        return new ProductPriceTable(product, optionGroups, optionDetails);
+    }
+
+    long productId() {
+        return productId;
+    }
+
+    /***
+     * 선택한 옵션으로 견적 계산
+     * 옵션 그룹 최소/최대 선택 수, 품절 여부, 수량 기반 옵션의 최대 수량을 검증
+     * @throws BadRequestException 선택이 제약 조건을 위반한 경우
+     */
+    ProductQuoteResponseDTO quote(List<ProductQuoteSelectionDTO> selections) {
+        int[] selectedCounts = new int[groupIds.length];
+        boolean[] selected = new boolean[detailIds.length];
+        List<ProductQuoteLineDTO> lines = new ArrayList<>(selections.size());
+        long total = basePrice;
+
+        try {
+            for (ProductQuoteSelectionDTO selection : selections) {
+                int d = ordinalOf(selection.optionDetailId());
+                if (d < 0) {
+                    throw new BadRequestException("상품에 존재하지 않는 옵션입니다.");
+                }
+                if (selected[d]) {
+                    throw new BadRequestException("중복 선택된 옵션이 있습니다.");
+                }
+                if (detailSoldOut[d]) {
+                    throw new BadRequestException("품절된 옵션입니다. (" + detailNames[d] + ")");
+                }
+
+                int quantity = selection.quantity() != null ? selection.quantity() : 1;
+                if (quantity < 1) {
+                    throw new BadRequestException("수량은 1 이상이어야 합니다.");
+                }
+                if (detailUnits[d] == null && quantity != 1) {
+                    throw new BadRequestException("수량을 지정할 수 없는 옵션입니다. (" + detailNames[d] + ")");
+                }
+                if (quantity > detailMaxCount[d]) {
+                    throw new BadRequestException("최대 선택 가능 수량을 초과했습니다. (" + detailNames[d] + ")");
+                }
+
+                long amount = Math.multiplyExact(detailPrices[d], quantity);
+                total = Math.addExact(total, amount);
+
+                selected[d] = true;
+                int g = detailGroup[d];
+                selectedCounts[g]++;
+                lines.add(new ProductQuoteLineDTO(
+                        groupIds[g], groupNames[g],
+                        detailIds[d], detailNames[d],
+                        detailPrices[d], quantity, detailUnits[d], amount));
+            }
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("견적 금액이 계산 가능한 범위를 초과했습니다.");
+        }
+
+        for (int g = 0; g < groupIds.length; g++) {
+            int count = selectedCounts[g];
+
+            // 선택 옵션 그룹은 아무것도 고르지 않아도 됨
+            if (count == 0 && !groupMandatory[g]) {
+                continue;
+            }
+            int min = groupMandatory[g] ? Math.max(groupMinSelect[g], 1) : groupMinSelect[g];
+            if (count < min) {
+                throw new BadRequestException("옵션을 " + min + "개 이상 선택해야 합니다. (" + groupNames[g] + ")");
+            }
+            if (count > groupMaxSelect[g]) {
+                throw new BadRequestException("옵션은 최대 " + groupMaxSelect[g] + "개까지 선택할 수 있습니다. (" + groupNames[g] + ")");
+            }
+        }
+
+        return new ProductQuoteResponseDTO(productId, productName, basePrice, Collections.unmodifiableList(lines), total);
+    }
+
+    private int ordinalOf(Long optionDetailId) {
+        if (optionDetailId == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(sortedDetailIds, optionDetailId);
+        return index >= 0 ? sortedDetailOrdinals[index] : -1;
+    }
+}
@@ -0,0 +1,286 @@
+package com.wedit.backend.api.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wedit.backend.api.product.dto.ProductQuoteBatchItemDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteBatchItemResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteBatchResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteSelectionDTO;
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.api.product.event.ItemGroupPriceChangedEvent;
+import com.wedit.backend.api.product.repository.OptionDetailRepository;
+import com.wedit.backend.api.product.repository.OptionGroupRepository;
+import com.wedit.backend.api.product.repository.ProductRepository;
+import com.wedit.backend.common.exception.BadRequestException;
+import com.wedit.backend.common.exception.BaseException;
+import com.wedit.backend.common.exception.NotFoundException;
+import com.wedit.backend.common.response.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// 상품 견적 계산
+/// 상품별 가격표(ProductPriceTable) 를 캐시에 두고 계산하므로, 캐시 적중 시 DB 를 조회하지 않음
+/// 상품/옵션 변경 이벤트 커밋 이후 해당 상품의 가격표를 무효화 (별도 버전 컬럼 없이 변경마다 새 가격표 생성)
+/// 무효화는 인스턴스 내부에서만 일어나므로, 다른 인스턴스의 변경은 expireAfterWrite(기본 60초) 이내에 반영됨
+@Service
+@Slf4j
+public class ProductQuoteService {
+
+    private final ProductRepository productRepository;
+    private final OptionGroupRepository optionGroupRepository;
+    private final OptionDetailRepository optionDetailRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Cache<Long, ProductPriceTable> priceTables;
+
+    // 옵션 그룹 -> 상품 ID (옵션 그룹의 상품은 바뀌지 않으므로 만료 없이 크기만 제한)
+    private final Cache<Long, Long> productIdsByOptionGroupId;
+
+    // 무효화 발생 횟수 (일괄 적재 도중 무효화된 가격표가 캐시에 남지 않도록 확인)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${app.product.quote.batch-threads:4}")
+    private Integer batchThreads;
+
+    @Value("${app.product.quote.batch-queue-capacity:200}")
+    private Integer batchQueueCapacity;
+
+    // 일괄 견적 계산용 스레드 풀 (대기열이 가득 차면 요청 스레드에서 직접 계산)
+    private ThreadPoolExecutor quoteExecutor;
+
+    public ProductQuoteService(ProductRepository productRepository,
+                               OptionGroupRepository optionGroupRepository,
+                               OptionDetailRepository optionDetailRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.product.quote-cache.max-size:10000}") Long maxSize,
+                               @Value("${app.product.quote-cache.expire-after-access-minutes:60}") Long expireAfterAccessMinutes,
+                               @Value("${app.product.quote-cache.expire-after-write-seconds:60}") Long expireAfterWriteSeconds) {
+        this.productRepository = productRepository;
+        this.optionGroupRepository = optionGroupRepository;
+        this.optionDetailRepository = optionDetailRepository;
+
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+
+        this.priceTables = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        this.productIdsByOptionGroupId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+
+        // /actuator/metrics/cache.gets (cache=product.price-table) 로 적중률 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, priceTables, "product.price-table");
+    }
+
+    @PostConstruct
+    void initQuoteExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        quoteExecutor = new ThreadPoolExecutor(
+                batchThreads,
+                batchThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "product-quote-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdownQuoteExecutor() {
+        quoteExecutor.shutdown();
+    }
+
+    public ProductQuoteResponseDTO quote(Long productId, List<ProductQuoteSelectionDTO> selections) {
+        return getPriceTable(productId).quote(selections);
+    }
+
+    /***
+     * 여러 상품 견적을 한 번에 계산 (업체/업종 간 비교용)
+     * 캐시에 없는 가격표는 하나의 읽기 트랜잭션에서 일괄 조회하고, 항목별 계산은 병렬로 수행
+     * 항목별 오류는 해당 항목 결과에만 담고 나머지 항목은 정상 계산
+     */
+    public ProductQuoteBatchResponseDTO quoteBatch(List<ProductQuoteBatchItemDTO> items) {
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        items.forEach(item -> productIds.add(item.productId()));
+        Map<Long, ProductPriceTable> tables = getPriceTables(productIds);
+
+        List<CompletableFuture<ProductQuoteBatchItemResponseDTO>> futures = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            int index = i;
+            ProductQuoteBatchItemDTO item = items.get(i);
+            ProductPriceTable table = tables.get(item.productId());
+            futures.add(CompletableFuture.supplyAsync(() -> quoteItem(index, item, table), quoteExecutor));
+        }
+
+        List<ProductQuoteBatchItemResponseDTO> results = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        int successCount = 0;
+        long grandTotal = 0L;
+        try {
+            for (ProductQuoteBatchItemResponseDTO result : results) {
+                if (result.success()) {
+                    successCount++;
+                    grandTotal = Math.addExact(grandTotal, result.quote().totalPrice());
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("견적 금액이 계산 가능한 범위를 초과했습니다.");
+        }
+
+        log.debug("[Product] 일괄 견적 계산 - 요청: {}, 성공: {}", results.size(), successCount);
+
+        return new ProductQuoteBatchResponseDTO(results, successCount, results.size() - successCount, grandTotal);
+    }
+
+    // 노출 중이 아닌 상품은 캐시하지 않음
+    ProductPriceTable getPriceTable(Long productId) {
+        ProductPriceTable table = priceTables.get(productId, id -> loadPriceTables(Set.of(id)).get(id));
+        if (table == null) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_PRODUCT.getMessage());
+        }
+        return table;
+    }
+
+    // 캐시에 없는 가격표만 일괄 적재 (조회되지 않은 상품은 결과에서 제외)
+    Map<Long, ProductPriceTable> getPriceTables(Set<Long> productIds) {
+        Map<Long, ProductPriceTable> tables = new HashMap<>(priceTables.getAllPresent(productIds));
+
+        Set<Long> missing = new HashSet<>(productIds);
+        missing.removeAll(tables.keySet());
+        if (missing.isEmpty()) {
+            return tables;
+        }
+
+        long generation = invalidations.get();
+        Map<Long, ProductPriceTable> loaded = loadPriceTables(missing);
+        priceTables.putAll(loaded);
+
+        // 적재 도중 무효화가 있었다면 방금 넣은 가격표는 이전 상태일 수 있으므로 제거 (이번 요청에서만 사용)
+        if (invalidations.get() != generation) {
+            priceTables.invalidateAll(loaded.keySet());
+        }
+
+        tables.putAll(loaded);
+        return tables;
+    }
+
+    // 커밋 이후 무효화 (단건 적재 중인 가격표는 적재가 끝난 뒤 제거되므로 이전 값이 남지 않음)
+    // 상품 ID 가 없는 옵션 상세 이벤트만 옵션 그룹 기준으로 조회하며, 같은 옵션 그룹은 한 번만 조회
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(ItemGroupPriceChangedEvent event) {
+        Long productId = event.productId();
+        if (productId == null && event.optionGroupId() != null) {
+            productId = productIdsByOptionGroupId.get(event.optionGroupId(),
+                    id -> optionGroupRepository.findProductIdById(id).orElse(null));
+        }
+        if (productId != null) {
+            invalidate(productId);
+        }
+    }
+
+    private void invalidate(Long productId) {
+        invalidations.incrementAndGet();
+        priceTables.invalidate(productId);
+    }
+
+    private ProductQuoteBatchItemResponseDTO quoteItem(int index, ProductQuoteBatchItemDTO item, ProductPriceTable table) {
+        if (table == null) {
+            return ProductQuoteBatchItemResponseDTO.failure(index, item.productId(),
+                    ErrorStatus.NOT_FOUND_PRODUCT.getStatusCode(), ErrorStatus.NOT_FOUND_PRODUCT.getMessage());
+        }
+
+        try {
+            return ProductQuoteBatchItemResponseDTO.success(index, table.quote(item.selections()));
+        } catch (BaseException e) {
+            String message = e.getResponseMessage() != null
+                    ? e.getResponseMessage()
+                    : HttpStatus.valueOf(e.getStatusCode()).getReasonPhrase();
+            return ProductQuoteBatchItemResponseDTO.failure(index, item.productId(), e.getStatusCode(), message);
+        } catch (RuntimeException e) {
+            // 예상하지 못한 오류도 해당 항목 결과에만 담아, 한 항목 때문에 일괄 요청 전체가 실패하지 않도록 함
+            log.error("[Product] 일괄 견적 항목 계산 실패 - index: {}, productId: {}", index, item.productId(), e);
+            return ProductQuoteBatchItemResponseDTO.failure(index, item.productId(),
+                    ErrorStatus.INTERNAL_SERVER_ERROR.getStatusCode(), ErrorStatus.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    // 상품 / 옵션 그룹 / 옵션 상세를 하나의 읽기 트랜잭션에서 상품 수와 무관하게 3번의 쿼리로 조회
+    private Map<Long, ProductPriceTable> loadPriceTables(Set<Long> productIds) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            List<Product> products = productRepository.findByIdInAndIsVisibleTrueAndIsDeletedFalse(productIds);
+            if (products.isEmpty()) {
+                return Map.of();
+            }
+
+            List<OptionGroup> optionGroups = optionGroupRepository.findByProductIdInOrderByOrdering(
+                    products.stream().map(Product::getId).toList());
+            List<OptionDetail> optionDetails = optionGroups.isEmpty()
+                    ? List.of()
+                    : optionDetailRepository.findByOptionGroupIdIn(optionGroups.stream().map(OptionGroup::getId).toList());
+
+            // 조회 순서(정렬 순서)를 유지하며 상품별로 분류
+            Map<Long, Long> productIdsByGroupId = new HashMap<>();
+            Map<Long, List<OptionGroup>> groupsByProductId = new HashMap<>();
+            for (OptionGroup optionGroup : optionGroups) {
+                Long productId = optionGroup.getProduct().getId();
+                productIdsByGroupId.put(optionGroup.getId(), productId);
+                groupsByProductId.computeIfAbsent(productId, id -> new ArrayList<>()).add(optionGroup);
+            }
+
+            Map<Long, List<OptionDetail>> detailsByProductId = new HashMap<>();
+            for (OptionDetail optionDetail : optionDetails) {
+                Long productId = productIdsByGroupId.get(optionDetail.getOptionGroup().getId());
+                detailsByProductId.computeIfAbsent(productId, id -> new ArrayList<>()).add(optionDetail);
+            }
+
+            Map<Long, ProductPriceTable> tables = new HashMap<>();
+            for (Product product : products) {
+                tables.put(product.getId(), ProductPriceTable.compile(product,
+                        groupsByProductId.getOrDefault(product.getId(), List.of()),
+                        detailsByProductId.getOrDefault(product.getId(), List.of())));
+            }
+            return tables;
+        });
+    }
+}
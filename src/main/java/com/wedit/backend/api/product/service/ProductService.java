@@ -0,0 +1,76 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.product.dto.ProductDetailResponseDTO;
+import com.wedit.backend.api.product.dto.ProductMediaResponseDTO;
+import com.wedit.backend.api.product.dto.ProductOptionDetailResponseDTO;
+import com.wedit.backend.api.product.dto.ProductOptionGroupResponseDTO;
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.api.product.repository.OptionDetailRepository;
+import com.wedit.backend.api.product.repository.OptionGroupRepository;
+import com.wedit.backend.api.product.repository.ProductMediaRepository;
+import com.wedit.backend.api.product.repository.ProductRepository;
+import com.wedit.backend.common.exception.NotFoundException;
+import com.wedit.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductService {
+
+    private final ProductRepository productRepository;
+    private final OptionGroupRepository optionGroupRepository;
+    private final OptionDetailRepository optionDetailRepository;
+    private final ProductMediaRepository productMediaRepository;
+
+    /// 상품 상세 조회
+    /// 컬렉션(bag) 을 fetch join 하지 않고 옵션 수와 무관하게 최대 4번의 쿼리로 조회한 뒤 메모리에서 조립
+    /// (상품+아이템 그룹+업체 / 옵션 그룹 / 옵션 상세 IN / 미디어)
+    public ProductDetailResponseDTO getProductDetail(Long productId) {
+        Product product = productRepository.findDetailById(productId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_PRODUCT.getMessage()));
+
+        List<OptionGroup> optionGroups = optionGroupRepository.findByProductIdOrderByOrdering(productId);
+        Map<Long, List<ProductOptionDetailResponseDTO>> detailsByGroupId = loadOptionDetails(optionGroups);
+
+        List<ProductOptionGroupResponseDTO> optionGroupDTOs = optionGroups.stream()
+                .map(group -> ProductOptionGroupResponseDTO.of(group,
+                        detailsByGroupId.getOrDefault(group.getId(), List.of())))
+                .toList();
+
+        List<ProductMediaResponseDTO> mediaDTOs = productMediaRepository.findByProductIdOrderByOrderingAsc(productId)
+                .stream()
+                .map(ProductMediaResponseDTO::from)
+                .toList();
+
+        return ProductDetailResponseDTO.of(product, optionGroupDTOs, mediaDTOs);
+    }
+
+    // 옵션 그룹 ID 별로 상세 목록 분류 (쿼리 결과가 그룹/정렬 순서로 정렬되어 있으므로 순서 유지)
+    private Map<Long, List<ProductOptionDetailResponseDTO>> loadOptionDetails(List<OptionGroup> optionGroups) {
+        if (optionGroups.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> groupIds = optionGroups.stream()
+                .map(OptionGroup::getId)
+                .toList();
+
+        Map<Long, List<ProductOptionDetailResponseDTO>> detailsByGroupId = new HashMap<>();
+        for (OptionDetail detail : optionDetailRepository.findByOptionGroupIdIn(groupIds)) {
+            // 지연 로딩 프록시의 ID 접근은 초기화를 일으키지 않음
+            detailsByGroupId.computeIfAbsent(detail.getOptionGroup().getId(), id -> new ArrayList<>())
+                    .add(ProductOptionDetailResponseDTO.from(detail));
+        }
+        return detailsByGroupId;
+    }
+}
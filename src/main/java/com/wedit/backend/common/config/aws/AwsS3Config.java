@@ -3,30 +3,74 @@ package com.wedit.backend.common.config.aws;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import org.springframework.scheduling.annotation.Scheduled;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+import java.time.Duration;
+
 @Configuration
 public class AwsS3Config {
 
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 로컬 저장소(MinIO, LocalStack 등) 주소, 비어 있으면 AWS S3 사용
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.path-style-access:false}")
+    private Boolean pathStyleAccess;
+
+    @Value("${cloud.aws.credentials.refresh-ahead-seconds:300}")
+    private Long refreshAheadSeconds;
+
+    @Value("${cloud.aws.credentials.max-cache-seconds:3600}")
+    private Long maxCacheSeconds;
+
+    // 자격 증명 체인 탐색 결과를 S3Client / S3Presigner / presign 엔진이 함께 사용
+    @Bean
+    public RefreshAheadCredentialsProvider awsCredentialsProvider() {
+        return new RefreshAheadCredentialsProvider(
+                Duration.ofSeconds(refreshAheadSeconds),
+                Duration.ofSeconds(maxCacheSeconds)
+        );
+    }
+
     @Bean
-    public S3Client s3Client() {
-        return S3Client.builder()
+    public S3Client s3Client(RefreshAheadCredentialsProvider awsCredentialsProvider) {
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.builder().build())
-                .build();
+                .credentialsProvider(awsCredentialsProvider)
+                .forcePathStyle(pathStyleAccess);
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 
     @Bean
-    public S3Presigner s3Presigner() {
-        return S3Presigner.builder()
+    public S3Presigner s3Presigner(RefreshAheadCredentialsProvider awsCredentialsProvider) {
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.builder().build())
-                .build();
+                .credentialsProvider(awsCredentialsProvider)
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(pathStyleAccess)
+                        .build());
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Scheduled(fixedDelayString = "${cloud.aws.credentials.refresh-check-interval-ms:60000}")
+    public void refreshCredentials() {
+        awsCredentialsProvider().refreshIfNeeded();
     }
 }
@@ -0,0 +1,84 @@
+package com.wedit.backend.common.config.aws;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/// S3Client / S3Presigner / 자체 presign 엔진이 공유하는 자격 증명 캐시
+/// 자격 증명 체인 탐색은 캐시 갱신 시에만 수행하고, 만료(임시 자격 증명) 또는 최대 보관 시간 전에 미리 갱신
+@Slf4j
+public class RefreshAheadCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
+
+    private final DefaultCredentialsProvider delegate;
+    private final Duration refreshAhead;
+    private final Duration maxCacheDuration;
+
+    private final AtomicReference<CachedCredentials> cached = new AtomicReference<>();
+
+    public RefreshAheadCredentialsProvider(Duration refreshAhead, Duration maxCacheDuration) {
+        this.delegate = DefaultCredentialsProvider.builder().build();
+        this.refreshAhead = refreshAhead;
+        this.maxCacheDuration = maxCacheDuration;
+    }
+
+    @Override
+    public AwsCredentials resolveCredentials() {
+        CachedCredentials current = cached.get();
+        if (current == null || current.isStale(Instant.now())) {
+            current = refresh(false);
+        }
+        return current.credentials();
+    }
+
+    // 스케줄러에서 호출, 요청 스레드가 갱신 비용을 부담하지 않도록 미리 갱신
+    public void refreshIfNeeded() {
+        CachedCredentials current = cached.get();
+        if (current == null || current.refreshAt().isBefore(Instant.now())) {
+            try {
+                refresh(true);
+            } catch (RuntimeException e) {
+                // 기존 자격 증명이 아직 유효하면 다음 주기에 재시도
+                log.warn("[S3] 자격 증명 사전 갱신 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private synchronized CachedCredentials refresh(boolean ahead) {
+        Instant now = Instant.now();
+        CachedCredentials current = cached.get();
+        if (current != null && !(ahead ? current.refreshAt().isBefore(now) : current.isStale(now))) {
+            return current;
+        }
+
+        AwsCredentials credentials = delegate.resolveCredentials();
+        Instant expiresAt = credentials.expirationTime().orElse(now.plus(maxCacheDuration));
+
+        // 만료 직전 자격 증명을 받아도 바로 다시 갱신하지 않도록 남은 기간의 절반 이내로 제한
+        Duration lifetime = Duration.between(now, expiresAt);
+        Duration lead = refreshAhead.compareTo(lifetime.dividedBy(2)) > 0 ? lifetime.dividedBy(2) : refreshAhead;
+
+        CachedCredentials renewed = new CachedCredentials(credentials, expiresAt.minus(lead), expiresAt);
+        cached.set(renewed);
+        log.debug("[S3] 자격 증명 갱신, 다음 갱신 시각 : {}", renewed.refreshAt());
+        return renewed;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private record CachedCredentials(AwsCredentials credentials, Instant refreshAt, Instant expiresAt) {
+
+        // 사전 갱신이 실패했더라도 실제 만료 전까지는 사용
+        boolean isStale(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
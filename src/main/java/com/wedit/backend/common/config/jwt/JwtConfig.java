@@ -1,9 +1,10 @@
 package com.wedit.backend.common.config.jwt;
 
 import com.wedit.backend.api.member.jwt.filter.JwtAuthenticationProcessingFilter;
-import com.wedit.backend.api.member.jwt.repository.RefreshTokenRepository;
 import com.wedit.backend.api.member.jwt.service.JwtService;
+import com.wedit.backend.api.member.jwt.service.TokenRevocationService;
 import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.member.service.MemberPrincipalCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,10 +15,12 @@ public class JwtConfig {
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final MemberPrincipalCacheService memberPrincipalCacheService;
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-        return new JwtAuthenticationProcessingFilter(jwtService, memberRepository, refreshTokenRepository);
+        return new JwtAuthenticationProcessingFilter(jwtService, memberRepository, tokenRevocationService,
+                memberPrincipalCacheService);
     }
 }
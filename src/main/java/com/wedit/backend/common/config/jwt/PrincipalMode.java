@@ -0,0 +1,11 @@
+package com.wedit.backend.common.config.jwt;
+
+/// JWT 인증 시 SecurityMember 생성 방식 (jwt.principal-mode)
+public enum PrincipalMode {
+
+    // 요청마다 Member 를 DB 에서 조회하여 생성
+    DATABASE,
+
+    // 검증된 토큰 클레임만으로 생성, Member 는 필요 시 지연 조회
+    STATELESS
+}
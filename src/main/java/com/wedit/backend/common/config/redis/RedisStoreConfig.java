@@ -0,0 +1,57 @@
+package com.wedit.backend.common.config.redis;
+
+import com.wedit.backend.api.member.service.MemberPrincipalCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/// jwt.refresh.store=redis 일 때만 Redis 연결 구성
+/// 같은 연결로 회원 캐시 무효화 메시지(pub/sub)도 구독
+@Configuration
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "redis")
+public class RedisStoreConfig {
+
+    @Value("${jwt.refresh.redis.host:localhost}")
+    private String host;
+
+    @Value("${jwt.refresh.redis.port:6379}")
+    private Integer port;
+
+    @Value("${jwt.refresh.redis.password:}")
+    private String password;
+
+    @Bean
+    public LettuceConnectionFactory refreshTokenRedisConnectionFactory() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        if (!password.isBlank()) {
+            configuration.setPassword(password);
+        }
+        return new LettuceConnectionFactory(configuration);
+    }
+
+    @Bean
+    public StringRedisTemplate refreshTokenRedisTemplate(LettuceConnectionFactory refreshTokenRedisConnectionFactory) {
+        return new StringRedisTemplate(refreshTokenRedisConnectionFactory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer memberPrincipalInvalidationListenerContainer(
+            LettuceConnectionFactory refreshTokenRedisConnectionFactory,
+            MemberPrincipalCacheService memberPrincipalCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(refreshTokenRedisConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> memberPrincipalCacheService.onInvalidationMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(MemberPrincipalCacheService.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
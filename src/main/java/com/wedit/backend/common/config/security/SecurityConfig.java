@@ -1,14 +1,17 @@
 package com.wedit.backend.common.config.security;
 
+import com.wedit.backend.api.member.entity.Role;
 import com.wedit.backend.api.member.jwt.filter.FilterExceptionHandler;
 import com.wedit.backend.common.config.jwt.JwtConfig;
 import com.wedit.backend.common.oauth2.OAuth2AuthenticationFailureHandler;
 import com.wedit.backend.common.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.wedit.backend.common.oauth2.OAuth2UserService;
 import com.wedit.backend.common.oauth2.AppleOAuth2AccessTokenResponseClient;
+import com.wedit.backend.common.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,13 +19,17 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -34,11 +41,29 @@ public class SecurityConfig {
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final OAuth2UserService oAuth2UserService;
+    private final HttpCookieOAuth2AuthorizationRequestRepository cookieAuthorizationRequestRepository;
     private final ObjectProvider<AppleOAuth2AccessTokenResponseClient> appleOAuth2AccessTokenResponseClientProvider;
 
+    @Value("${app.security.password.encoder:bcrypt}")
+    private String passwordEncoderId;
+
+    @Value("${app.security.password.bcrypt-strength:10}")
+    private Integer bcryptStrength;
+
+    /// {id} 접두사로 알고리즘을 구분하는 위임 인코더
+    /// 신규 해시는 app.security.password.encoder 로 생성하고, 접두사 없는 기존 해시는 bcrypt 로 검증
+    /// 로그인 성공 시 upgradeEncoding 으로 약한 해시를 감지해 재해시
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(passwordEncoderId, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingPasswordEncoder;
     }
 
     @Bean
@@ -60,6 +85,8 @@ public class SecurityConfig {
                     config.setAllowedHeaders(Arrays.asList(
                             "Authorization",
                             "X-Refresh-Token",
+                            "X-Device-Id",
+                            "X-Request-Id",
                             "Content-Type",
                             "X-Requested-With",
                             "Accept",
@@ -68,6 +95,7 @@ public class SecurityConfig {
                     config.setMaxAge(3600L);
                     config.addExposedHeader("Authorization");
                     config.addExposedHeader("X-Refresh-Token");
+                    config.addExposedHeader("X-Request-Id");
                     return config;
                 }))
                 .headers(headers -> headers
@@ -98,11 +126,17 @@ public class SecurityConfig {
                                 "/api/v1/member/login",
                                 "/api/v1/member/token-reissue"
                         ).permitAll()   // Member 관련 허가
+                        .requestMatchers(
+                                "/actuator/itemgroupminprice",
+                                "/api/v1/member/*/role"
+                        ).hasAuthority(Role.ROLE_ADMIN.name())   // 운영용 Actuator 작업, 회원 권한 변경은 관리자만 허용
                         .anyRequest().authenticated()
                 )   // OAuth2 도입 시 추가
             .oauth2Login(oauth2Login -> {
-                oauth2Login.authorizationEndpoint(authorization ->
-                    authorization.baseUri("/api/oauth2/authorization"));
+                // 인가 요청은 세션 대신 서명된 쿠키에 저장 (STATELESS 유지)
+                oauth2Login.authorizationEndpoint(authorization -> authorization
+                    .baseUri("/api/oauth2/authorization")
+                    .authorizationRequestRepository(cookieAuthorizationRequestRepository));
 
                 AppleOAuth2AccessTokenResponseClient appleClient =
                     appleOAuth2AccessTokenResponseClientProvider.getIfAvailable();
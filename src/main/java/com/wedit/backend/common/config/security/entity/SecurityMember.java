@@ -1,6 +1,10 @@
 package com.wedit.backend.common.config.security.entity;
 
+import com.wedit.backend.api.member.dto.MemberSnapshot;
 import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.jwt.dto.JwtClaims;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -8,14 +12,35 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Supplier;
 
 @Getter
 public class SecurityMember implements UserDetails {
 
-    private final Member member;
+    private final Long memberId;
+    private final String email;
+    private final Role role;
 
-    public SecurityMember(Member member) {
+    // Stateless 모드에서는 컨트롤러가 getMember() 를 호출할 때만 조회
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Member> memberLoader;
+
+    @Getter(AccessLevel.NONE)
+    private Member member;
+
+    private SecurityMember(Long memberId, String email, Role role, Member member, Supplier<Member> memberLoader) {
+        this.memberId = memberId;
+        this.email = email;
+        this.role = role;
         this.member = member;
+        this.memberLoader = memberLoader;
+    }
+
+    public Member getMember() {
+        if (member == null) {
+            member = memberLoader.get();
+        }
+        return member;
     }
 
     @Override
@@ -40,20 +65,29 @@ public class SecurityMember implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singleton(new SimpleGrantedAuthority(member.getRole().name()));
+        return Collections.singleton(new SimpleGrantedAuthority(role.name()));
     }
 
+    // 인증 이후에는 비밀번호가 필요 없으므로 Member 를 추가로 조회하지 않음
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return member != null ? member.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     public static SecurityMember from(Member member) {
-        return new SecurityMember(member);
+        return new SecurityMember(member.getId(), member.getEmail(), member.getRole(), member, null);
+    }
+
+    public static SecurityMember of(JwtClaims claims, Supplier<Member> memberLoader) {
+        return new SecurityMember(claims.memberId(), claims.email(), claims.role(), null, memberLoader);
+    }
+
+    public static SecurityMember of(MemberSnapshot snapshot, Supplier<Member> memberLoader) {
+        return new SecurityMember(snapshot.id(), snapshot.email(), snapshot.role(), null, memberLoader);
     }
 }
@@ -0,0 +1,25 @@
+package com.wedit.backend.common.exception;
+
+import com.wedit.backend.common.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/// 컨트롤러에서 처리하지 않은 BaseException 을 예외에 지정된 상태 코드의 ApiResponse 로 변환
+/// 요청 검증 실패(@Valid)는 기존 응답 형식을 유지하도록 Spring 기본 처리에 맡김
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBaseException(BaseException ex) {
+        String message = ex.getResponseMessage() != null
+                ? ex.getResponseMessage()
+                : HttpStatus.valueOf(ex.getStatusCode()).getReasonPhrase();
+
+        return ResponseEntity.status(ex.getStatusCode())
+                .body(ApiResponse.fail(ex.getStatusCode(), message));
+    }
+}
@@ -0,0 +1,29 @@
+package com.wedit.backend.common.lock.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/// 다중 인스턴스 환경에서 배치 작업을 한 인스턴스만 실행하기 위한 잠금 행
+@Getter
+@Entity
+@Table(name = "job_lock")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;                // 작업 이름
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;  // 잠금 만료 시각 (인스턴스가 죽어도 이후 자동 해제)
+
+    @Column(nullable = false)
+    private String lockedBy;            // 잠금을 획득한 인스턴스
+}
@@ -0,0 +1,43 @@
+package com.wedit.backend.common.lock.repository;
+
+import com.wedit.backend.common.lock.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // 만료된 잠금 획득 (성공 시 1)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE job_lock SET locked_until = :lockedUntil, locked_by = :lockedBy " +
+            "WHERE name = :name AND locked_until <= :now", nativeQuery = true)
+    int acquireExpired(@Param("name") String name,
+                       @Param("lockedUntil") LocalDateTime lockedUntil,
+                       @Param("lockedBy") String lockedBy,
+                       @Param("now") LocalDateTime now);
+
+    // 잠금 행이 없을 때 최초 생성 (이미 있으면 0)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_lock (name, locked_until, locked_by) " +
+            "VALUES (:name, :lockedUntil, :lockedBy)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name,
+                       @Param("lockedUntil") LocalDateTime lockedUntil,
+                       @Param("lockedBy") String lockedBy);
+
+    // 본인이 획득한 잠금만 해제
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE job_lock SET locked_until = :now " +
+            "WHERE name = :name AND locked_by = :lockedBy", nativeQuery = true)
+    int release(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now);
+}
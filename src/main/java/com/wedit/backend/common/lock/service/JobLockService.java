@@ -0,0 +1,46 @@
+package com.wedit.backend.common.lock.service;
+
+import com.wedit.backend.common.lock.repository.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/// job_lock 테이블 기반 분산 잠금 (인스턴스 간 배치 작업 단일 실행 보장)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+
+    // 인스턴스 식별자 (pid@host + 기동 시 UUID)
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+    /***
+     * 잠금 획득 시도
+     * @param name 작업 이름
+     * @param lockAtMostFor 최대 점유 시간 (인스턴스 장애 시 이 시간 이후 다른 인스턴스가 획득 가능)
+     * @return 획득 성공 여부
+     */
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        boolean acquired = jobLockRepository.acquireExpired(name, lockedUntil, instanceId, now) == 1
+                || jobLockRepository.insertIfAbsent(name, lockedUntil, instanceId) == 1;
+
+        if (!acquired) {
+            log.debug("[JobLock] 다른 인스턴스가 실행 중 - {}", name);
+        }
+        return acquired;
+    }
+
+    public void unlock(String name) {
+        jobLockRepository.release(name, instanceId, LocalDateTime.now());
+    }
+}
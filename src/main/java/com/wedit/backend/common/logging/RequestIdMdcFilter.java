@@ -0,0 +1,53 @@
+package com.wedit.backend.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/// 요청 단위 로그 추적용 request id 를 MDC 에 등록
+/// 시큐리티 필터 체인보다 먼저 실행되어 소셜 로그인/인증 로그에도 같은 id 가 남는다.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdMdcFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID = "requestId";
+    public static final String PROVIDER = "provider";
+    public static final String MEMBER_ID = "memberId";
+
+    // 로그 위조 방지를 위해 영문/숫자/-/_/. 로 구성된 64자 이하 값만 허용
+    private static final Pattern REQUEST_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        String requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+        MDC.put(REQUEST_ID, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 스레드 재사용 시 이전 요청 값이 남지 않도록 정리
+            MDC.clear();
+        }
+    }
+
+    // 게이트웨이가 전달한 id 가 있으면 그대로 사용
+    private String resolveRequestId(String header) {
+        if (header == null || !REQUEST_ID_PATTERN.matcher(header).matches()) {
+            return UUID.randomUUID().toString();
+        }
+        return header;
+    }
+}
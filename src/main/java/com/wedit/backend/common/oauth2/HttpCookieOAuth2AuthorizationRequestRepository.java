@@ -0,0 +1,202 @@
+package com.wedit.backend.common.oauth2;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+/// OAuth2 인가 요청(state, nonce, PKCE 등)을 HttpSession 대신 HMAC 서명된 단기 쿠키에 저장
+/// 서버에 세션이 생성되지 않으므로 인스턴스 간 sticky routing 이 필요 없다.
+///
+/// 서명 키는 app.oauth2.authorization-cookie.secret 전용 시크릿을 사용하고,
+/// 없으면 JWT 서명 키를 그대로 쓰지 않고 HKDF-SHA256(RFC 5869)으로 용도 라벨을 붙여 별도 키를 파생
+@Slf4j
+@Component
+public class HttpCookieOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    public static final String COOKIE_NAME = "oauth2_auth_request";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String HKDF_INFO = "wedit/oauth2-authorization-cookie/v1";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final SecretKeySpec signingKey;
+    private final Duration maxAge;
+    private final String sameSite;
+
+    public HttpCookieOAuth2AuthorizationRequestRepository(
+            @Value("${app.oauth2.authorization-cookie.secret:}") String secret,
+            @Value("${jwt.secretKey}") String jwtSecretKey,
+            @Value("${app.oauth2.authorization-cookie.max-age-seconds:180}") Long maxAgeSeconds,
+            @Value("${app.oauth2.authorization-cookie.same-site:None}") String sameSite) {
+        byte[] keyBytes = secret.isBlank()
+                ? deriveKey(Base64.getDecoder().decode(jwtSecretKey))
+                : secret.getBytes(StandardCharsets.UTF_8);
+        this.signingKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        // Apple 은 form_post(cross-site POST) 로 콜백하므로 기본값 None
+        this.sameSite = sameSite;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return deserialize(cookie.getValue());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            deleteCookie(response);
+            return;
+        }
+
+        addCookie(response, serialize(authorizationRequest), maxAge);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        deleteCookie(response);
+        return authorizationRequest;
+    }
+
+    /// payload(Base64URL JSON) + "." + HMAC 서명
+    private String serialize(OAuth2AuthorizationRequest authorizationRequest) {
+        try {
+            StoredAuthorizationRequest stored = new StoredAuthorizationRequest(
+                    authorizationRequest.getAuthorizationUri(),
+                    authorizationRequest.getClientId(),
+                    authorizationRequest.getRedirectUri(),
+                    authorizationRequest.getScopes(),
+                    authorizationRequest.getState(),
+                    authorizationRequest.getAdditionalParameters(),
+                    authorizationRequest.getAttributes(),
+                    authorizationRequest.getAuthorizationRequestUri()
+            );
+            String payload = ENCODER.encodeToString(jsonMapper.writeValueAsBytes(stored));
+            return payload + "." + sign(payload);
+        } catch (Exception e) {
+            throw new IllegalStateException("OAuth2 인가 요청 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    // 서명이 일치하지 않거나 형식이 잘못된 쿠키는 인가 요청이 없는 것으로 처리
+    private OAuth2AuthorizationRequest deserialize(String value) {
+        int separator = value.lastIndexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+
+        String payload = value.substring(0, separator);
+        byte[] signature = value.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(signature, sign(payload).getBytes(StandardCharsets.US_ASCII))) {
+            log.warn("OAuth2 인가 요청 쿠키 서명 불일치");
+            return null;
+        }
+
+        try {
+            StoredAuthorizationRequest stored =
+                    jsonMapper.readValue(DECODER.decode(payload), StoredAuthorizationRequest.class);
+
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri(stored.authorizationUri())
+                    .clientId(stored.clientId())
+                    .redirectUri(stored.redirectUri())
+                    .scopes(stored.scopes())
+                    .state(stored.state())
+                    .additionalParameters(stored.additionalParameters())
+                    .attributes(stored.attributes())
+                    .authorizationRequestUri(stored.authorizationRequestUri())
+                    .build();
+        } catch (Exception e) {
+            log.warn("OAuth2 인가 요청 쿠키 복원 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return ENCODER.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 인가 요청 서명에 실패했습니다.", e);
+        }
+    }
+
+    // HKDF-SHA256 extract(salt = 0x00 * 32) + expand(info = 용도 라벨, L = 32)
+    private static byte[] deriveKey(byte[] inputKeyMaterial) {
+        try {
+            Mac extract = Mac.getInstance(HMAC_ALGORITHM);
+            extract.init(new SecretKeySpec(new byte[32], HMAC_ALGORITHM));
+            byte[] pseudoRandomKey = extract.doFinal(inputKeyMaterial);
+
+            Mac expand = Mac.getInstance(HMAC_ALGORITHM);
+            expand.init(new SecretKeySpec(pseudoRandomKey, HMAC_ALGORITHM));
+            expand.update(HKDF_INFO.getBytes(StandardCharsets.US_ASCII));
+            expand.update((byte) 0x01);
+            return expand.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 인가 요청 서명 키 파생에 실패했습니다.", e);
+        }
+    }
+
+    private void addCookie(HttpServletResponse response, String value, Duration cookieMaxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(true)
+                .sameSite(sameSite)
+                .maxAge(cookieMaxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private void deleteCookie(HttpServletResponse response) {
+        addCookie(response, "", Duration.ZERO);
+    }
+
+    private record StoredAuthorizationRequest(
+            String authorizationUri,
+            String clientId,
+            String redirectUri,
+            Set<String> scopes,
+            String state,
+            Map<String, Object> additionalParameters,
+            Map<String, Object> attributes,
+            String authorizationRequestUri
+    ) {
+    }
+}
@@ -2,16 +2,18 @@ package com.wedit.backend.common.oauth2;
 
 import java.io.IOException;
 
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.wedit.backend.api.member.entity.Member;
 import com.wedit.backend.api.member.jwt.service.JwtService;
-import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.common.logging.RequestIdMdcFilter;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -24,7 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccessHandler {
 
 	private final JwtService jwtService;
-	private final MemberRepository memberRepository;
+	private final OAuth2AuthenticationFailureHandler failureHandler;
 
 	// 프론트엔드 URL (환경에 따라 설정)
 	@Value("${app.oauth2.authorized-redirect-uri:http://localhost:3000/oauth2/redirect}")
@@ -34,75 +36,33 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
 		Authentication authentication) throws IOException {
 
-		System.out.println("=== OAuth2 인증 성공 핸들러 시작 ===");
-
-		OAuth2User oauth2User = (OAuth2User)authentication.getPrincipal();
-
-		System.out.println("oauth2User attributes = " + oauth2User.getAttributes());
-
-		// registrationId를 통해 어떤 소셜 로그인인지 확인
-		String registrationId = extractRegistrationId(request);
-		String userNameAttributeName = oauth2User.getName();
-
-		System.out.println("registrationId = " + registrationId);
-		System.out.println("userNameAttributeName = " + userNameAttributeName);
-
-		// OAuthAttributes를 사용해서 올바르게 사용자 정보 추출
-		OAuthAttributes attributes = OAuthAttributes.of(registrationId, userNameAttributeName,
-			oauth2User.getAttributes());
-
-		String socialProvider = attributes.getSocialProvider();
-		String socialId = attributes.getSocialId();
-
-		// 데이터베이스에서 사용자 조회
-		Member member = memberRepository.findByOauthIdAndDeletedFalse(socialProvider + "_" + socialId)
-			.orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+		// OAuth2UserService 에서 확정된 회원 정보 사용 (추가 조회 없음)
+		// OIDC 로그인(openid scope) 등 회원 확정을 거치지 않은 principal 은 토큰을 발급하지 않고 실패로 처리
+		if (!(authentication.getPrincipal() instanceof OAuth2MemberPrincipal principal)) {
+			log.warn("OAuth2 인증 성공 처리 불가, 지원하지 않는 principal : {}",
+				authentication.getPrincipal() != null ? authentication.getPrincipal().getClass().getName() : null);
+			SecurityContextHolder.clearContext();
+			failureHandler.onAuthenticationFailure(request, response, new OAuth2AuthenticationException(
+				new OAuth2Error("unsupported_principal"), "지원하지 않는 소셜 로그인 방식입니다."));
+			return;
+		}
 
-		System.out.println(
-			"조회된 사용자 - ID: " + member.getId() + ", Email: " + member.getEmail());
+		MDC.put(RequestIdMdcFilter.PROVIDER, principal.getProvider());
+		MDC.put(RequestIdMdcFilter.MEMBER_ID, String.valueOf(principal.getMemberId()));
 
 		// JWT 토큰 생성
-		System.out.println(
-			"토큰 생성 - userId: " + member.getId() + ", email: " + member.getEmail());
-		String accessToken = jwtService.createAccessToken(member.getId(), member.getEmail(), member.getRole());
-		String refreshToken = jwtService.createRefreshToken(member.getId());
-
-		System.out.println("생성된 AccessToken: " + accessToken.substring(0, Math.min(50, accessToken.length())) + "...");
+		String accessToken = jwtService.createAccessToken(
+			principal.getMemberId(), principal.getEmail(), principal.getRole());
+		String refreshToken = jwtService.createRefreshToken(principal.getMemberId());
 
 		String targetUrl = UriComponentsBuilder.fromUriString(redirectUri)
 			.queryParam("token", accessToken)
 			.queryParam("refresh", refreshToken)
 			.build().toUriString();
 
-		System.out.println("일반 사용자 - 리다이렉트 URL: " + targetUrl);
+		// 리다이렉트 URL 에는 토큰이 포함되므로 로그에 남기지 않음
 		response.sendRedirect(targetUrl);
 
-		System.out.println("=== OAuth2 인증 성공 핸들러 완료 ===");
-		log.info("OAuth2 인증 성공. 사용자: {}", member.getEmail());
-	}
-
-	private String extractRegistrationId(HttpServletRequest request) {
-		// URL에서 registrationId 추출 (예: /oauth2/authorization/naver)
-		String requestUri = request.getRequestURI();
-		if (requestUri.contains("/naver")) {
-			return "naver";
-		} else if (requestUri.contains("/google")) {
-			return "google";
-		} else if (requestUri.contains("/kakao")) {
-			return "kakao";
-		}
-
-		// 세션에서 추출하는 방법도 있음
-		String referer = request.getHeader("Referer");
-		if (referer != null) {
-			if (referer.contains("naver"))
-				return "naver";
-			if (referer.contains("google"))
-				return "google";
-			if (referer.contains("kakao"))
-				return "kakao";
-		}
-
-		return "google"; // 기본값
+		log.info("OAuth2 인증 성공, 프론트엔드로 리다이렉트");
 	}
 }
@@ -0,0 +1,58 @@
+package com.wedit.backend.common.oauth2;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+
+import lombok.Getter;
+
+/// 소셜 로그인 완료 후 인증 객체에 담기는 principal
+/// OAuth2UserService 에서 확정된 회원 정보를 그대로 전달하여 성공 핸들러에서 재조회하지 않도록 함
+@Getter
+public class OAuth2MemberPrincipal implements OAuth2User {
+
+	private final Long memberId;
+	private final String email;
+	private final Role role;
+	private final String provider;
+	private final Map<String, Object> attributes;
+	private final String nameAttributeKey;
+
+	private OAuth2MemberPrincipal(Long memberId, String email, Role role, String provider,
+		Map<String, Object> attributes, String nameAttributeKey) {
+		this.memberId = memberId;
+		this.email = email;
+		this.role = role;
+		this.provider = provider;
+		this.attributes = Collections.unmodifiableMap(attributes);
+		this.nameAttributeKey = nameAttributeKey;
+	}
+
+	public static OAuth2MemberPrincipal of(Member member, OAuthAttributes attributes) {
+		return new OAuth2MemberPrincipal(
+			member.getId(),
+			member.getEmail(),
+			member.getRole(),
+			attributes.getSocialProvider(),
+			attributes.getAttributes(),
+			attributes.getNameAttributeKey());
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return Collections.singleton(new SimpleGrantedAuthority(role.name()));
+	}
+
+	// 소셜 제공자가 부여한 사용자 식별자 (DefaultOAuth2User 와 동일)
+	@Override
+	public String getName() {
+		return String.valueOf(attributes.get(nameAttributeKey));
+	}
+}
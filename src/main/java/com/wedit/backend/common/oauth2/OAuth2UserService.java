@@ -1,42 +1,47 @@
 package com.wedit.backend.common.oauth2;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
 
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
 import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.event.MemberChangedEvent;
 import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.common.logging.RequestIdMdcFilter;
 
-import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @RequiredArgsConstructor
+@Slf4j
 @Service
 @Transactional
 public class OAuth2UserService
 	implements org.springframework.security.oauth2.client.userinfo.OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
 	private final MemberRepository memberRepository;
-	private final HttpSession httpSession;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
 
-		System.out.println("=== OAuth2 로그인 시작 ===");
-
 		org.springframework.security.oauth2.client.userinfo.OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
 		OAuth2User oAuth2User = delegate.loadUser(userRequest);
 
 		// 현재 로그인 진행 중인 서비스를 구분하는 코드 (네이버 로그인인지 구글 로그인인지 구분)
 		String registrationId = userRequest.getClientRegistration().getRegistrationId();
-		System.out.println("소셜 제공자: " + registrationId);
+		MDC.put(RequestIdMdcFilter.PROVIDER, registrationId);
+		log.debug("OAuth2 사용자 정보 조회 완료");
 
 		String userNameAttributeName = userRequest.getClientRegistration().getProviderDetails()
 			.getUserInfoEndpoint().getUserNameAttributeName();
@@ -45,37 +50,52 @@ public class OAuth2UserService
 		OAuthAttributes attributes = OAuthAttributes.of(registrationId, userNameAttributeName,
 			oAuth2User.getAttributes());
 
-		System.out.println("파싱된 attributes - name: " + attributes.getName() + ", email: " + attributes.getEmail());
-
 		Member member = saveOrUpdate(attributes);
-		System.out.println("최종 사용자 엔티티 - ID: " + member.getId() + ", Email: " + member.getEmail());
-
-		// UserEntity 클래스를 사용하지 않고 SessionUser클래스를 사용하는 이유는 오류 방지.
-		httpSession.setAttribute("user", new MemberDTO(member)); // UserDTO : 세션에 사용자 정보를 저장하기 위한 Dto 클래스
+		MDC.put(RequestIdMdcFilter.MEMBER_ID, String.valueOf(member.getId()));
 
-		System.out.println("=== OAuth2 로그인 완료 ===");
+		log.info("OAuth2 로그인 사용자 확인 완료");
 
-		return new DefaultOAuth2User(
-			Collections.singleton(new SimpleGrantedAuthority(member.getOauthId())),
-			attributes.getAttributes(),
-			attributes.getNameAttributeKey());
+		return OAuth2MemberPrincipal.of(member, attributes);
 	}
 
-	private Member saveOrUpdate(OAuthAttributes attributes) {
-		Member userEntity = memberRepository.findByOauthIdAndDeletedFalse(
-				attributes.getSocialProvider() + "_" + attributes.getSocialId())
-			.map(entity -> {
-				System.out.println("기존 사용자 발견 - ID: " + entity.getId() + ", Email: " + entity.getEmail());
-				return entity.update(attributes.getName());
-			})
-			.orElseGet(() -> {
-				System.out.println("새 사용자 생성 - Email: " + attributes.getEmail());
-				return attributes.toEntity();
-			});
-
-		Member savedMember = memberRepository.save(userEntity);
-		System.out.println("저장된 사용자 - ID: " + savedMember.getId() + ", Email: " + savedMember.getEmail());
-
-		return savedMember;
+	// 동시 최초 로그인 검증을 위해 package-private
+	Member saveOrUpdate(OAuthAttributes attributes) {
+		String oauthId = attributes.getSocialProvider() + "_" + attributes.getSocialId();
+
+		// 기존 회원: 이름이 바뀐 경우에만 변경 감지로 UPDATE
+		Optional<Member> existing = memberRepository.findByOauthIdAndDeletedFalse(oauthId);
+		if (existing.isPresent()) {
+			Member member = existing.get();
+			log.debug("기존 소셜 회원 로그인 : {}", member.getId());
+			if (!Objects.equals(member.getName(), attributes.getName())) {
+				eventPublisher.publishEvent(MemberChangedEvent.from(member));
+			}
+			return member.update(attributes.getName());
+		}
+
+		// 신규 회원: 동시 최초 로그인이어도 oauth_id 유니크 키로 1건만 생성되고 나머지는 no-op
+		Member newMember = attributes.toEntity();
+		int inserted = memberRepository.insertSocialMemberIfAbsent(
+			newMember.getEmail(),
+			newMember.getPassword(),
+			oauthId,
+			newMember.getName(),
+			newMember.getRole().name(),
+			LocalDateTime.now());
+		log.debug("신규 소셜 회원 생성 : {}", inserted > 0);
+
+		// 동시 요청이 먼저 생성한 경우에도 조회되도록 잠금 읽기 사용
+		// 탈퇴한 같은 소셜 계정 또는 같은 이메일의 다른 계정이 있으면 INSERT 가 무시되어 조회되지 않음
+		Optional<Member> created = memberRepository.findForShareByOauthIdAndDeletedFalse(oauthId);
+		if (created.isPresent()) {
+			return created.get();
+		}
+
+		if (memberRepository.findByOauthId(oauthId).filter(Member::isDeleted).isPresent()) {
+			throw new OAuth2AuthenticationException(
+				new OAuth2Error("withdrawn_member"), "탈퇴한 소셜 계정입니다.");
+		}
+		throw new OAuth2AuthenticationException(
+			new OAuth2Error("account_conflict"), "이미 다른 방식으로 가입된 이메일입니다.");
 	}
 }
@@ -12,10 +12,20 @@ public enum SuccessStatus {
     /// 200 OK
     FORM_LOGIN_SUCCESS(HttpStatus.OK, "폼 로그인 성공"),
     MEMBER_WITHDRAW_SUCCESS(HttpStatus.OK, "회원탈퇴 성공"),
+    MEMBER_ROLE_UPDATE_SUCCESS(HttpStatus.OK, "회원 권한 변경 성공"),
     TOKEN_REISSUE_SUCCESS(HttpStatus.OK, "토큰 재발급 성공"),
     MEDIA_LIST_SUCCESS(HttpStatus.OK, "미디어 목록 조회 성공"),
     MEDIA_UPDATE_SUCCESS(HttpStatus.OK, "미디어 수정 성공"),
     AWS_S3_PRESIGNED_URL_SUCCESS(HttpStatus.OK, "S3 Presigned URL 발급 성공"),
+    AWS_S3_PRESIGNED_URLS_SUCCESS(HttpStatus.OK, "S3 Presigned URL 일괄 발급 성공"),
+    AWS_S3_MULTIPART_START_SUCCESS(HttpStatus.OK, "S3 멀티파트 업로드 시작 성공"),
+    AWS_S3_MULTIPART_PART_URLS_SUCCESS(HttpStatus.OK, "S3 멀티파트 파트 URL 발급 성공"),
+    AWS_S3_MULTIPART_COMPLETE_SUCCESS(HttpStatus.OK, "S3 멀티파트 업로드 완료 성공"),
+    AWS_S3_MULTIPART_ABORT_SUCCESS(HttpStatus.OK, "S3 멀티파트 업로드 중단 성공"),
+    PRODUCT_DETAIL_SUCCESS(HttpStatus.OK, "상품 상세 조회 성공"),
+    PRODUCT_QUOTE_SUCCESS(HttpStatus.OK, "상품 견적 계산 성공"),
+    PRODUCT_QUOTE_BATCH_SUCCESS(HttpStatus.OK, "상품 견적 일괄 계산 성공"),
+    VENDOR_LIST_SUCCESS(HttpStatus.OK, "업체 목록 조회 성공"),
 
     /// 201 CREATED
     MEMBER_SIGNUP_SUCCESS(HttpStatus.CREATED, "회원가입 성공"),
@@ -0,0 +1,28 @@
+package com.wedit.backend.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public final class TokenDigestUtil {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private TokenDigestUtil() {
+    }
+
+    // 토큰 원문 -> SHA-256 digest (32 bytes)
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 캐시 키 용도의 Base64 문자열 digest
+    public static String sha256Base64(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+}
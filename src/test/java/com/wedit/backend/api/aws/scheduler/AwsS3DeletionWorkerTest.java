@@ -0,0 +1,143 @@
+package com.wedit.backend.api.aws.scheduler;
+
+import com.wedit.backend.api.aws.entity.S3DeletionTask;
+import com.wedit.backend.api.aws.repository.S3DeletionTaskRepository;
+import com.wedit.backend.api.product.repository.ProductMediaRepository;
+import com.wedit.backend.api.vendor.repository.VendorMediaRepository;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AwsS3DeletionWorkerTest {
+
+    private S3Client s3Client;
+    private S3DeletionTaskRepository repository;
+    private VendorMediaRepository vendorMediaRepository;
+    private ProductMediaRepository productMediaRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private AwsS3DeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        repository = mock(S3DeletionTaskRepository.class);
+        vendorMediaRepository = mock(VendorMediaRepository.class);
+        productMediaRepository = mock(ProductMediaRepository.class);
+        JobLockService jobLockService = mock(JobLockService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(jobLockService.tryLock(eq("s3-deletion-worker"), any())).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        worker = new AwsS3DeletionWorker(s3Client, repository, vendorMediaRepository, productMediaRepository,
+                jobLockService, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(worker, "bucketName", "bucket");
+        ReflectionTestUtils.setField(worker, "batchSize", 1000);
+        ReflectionTestUtils.setField(worker, "maxBatchesPerRun", 1);
+        ReflectionTestUtils.setField(worker, "baseBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(worker, "maxBackoffSeconds", 21600L);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+    }
+
+    @Test
+    void 최대_시도_횟수에_도달한_실패는_dead_letter_로_전환한다() {
+        S3DeletionTask retrying = task(1L, "vendors/a.jpg", 0);
+        S3DeletionTask exhausted = task(2L, "vendors/b.jpg", 2);
+        S3DeletionTask succeeded = task(3L, "vendors/c.jpg", 1);
+        when(repository.findDueTasks(any(LocalDateTime.class), anyInt())).thenReturn(List.of(retrying, exhausted, succeeded));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(error("vendors/a.jpg"), error("vendors/b.jpg"))
+                .build());
+
+        worker.drain();
+
+        assertThat(retrying.getParkedAt()).isNull();
+        assertThat(retrying.getAttempts()).isEqualTo(1);
+        assertThat(retrying.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        assertThat(exhausted.getParkedAt()).isNotNull();
+        assertThat(exhausted.getAttempts()).isEqualTo(3);
+        assertThat(exhausted.getLastError()).startsWith("AccessDenied");
+
+        verify(repository).deleteAllByIdInBatch(List.of(3L));
+        assertThat(meterRegistry.counter("s3.deletion.parked").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("s3.deletion.failed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("s3.deletion.deleted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 예약_이후_미디어로_등록된_키는_삭제하지_않고_예약만_제거한다() {
+        S3DeletionTask orphan = task(1L, "vendors/orphan.jpg", 0);
+        S3DeletionTask vendorRegistered = task(2L, "vendors/registered.jpg", 0);
+        S3DeletionTask productRegistered = task(3L, "products/registered.jpg", 0);
+        when(repository.findDueTasks(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(orphan, vendorRegistered, productRegistered));
+        when(vendorMediaRepository.findExistingFileKeys(anyCollection())).thenReturn(List.of("vendors/registered.jpg"));
+        when(productMediaRepository.findExistingFileKeys(anyCollection())).thenReturn(List.of("products/registered.jpg"));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+
+        worker.drain();
+
+        ArgumentCaptor<DeleteObjectsRequest> request = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(request.capture());
+        assertThat(request.getValue().delete().objects()).extracting(ObjectIdentifier::key)
+                .containsExactly("vendors/orphan.jpg");
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        assertThat(meterRegistry.counter("s3.deletion.deleted").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("s3.deletion.skipped").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 모든_키가_등록되어_있으면_DeleteObjects_를_호출하지_않는다() {
+        when(repository.findDueTasks(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(task(1L, "vendors/registered.jpg", 0)));
+        when(vendorMediaRepository.findExistingFileKeys(anyCollection())).thenReturn(List.of("vendors/registered.jpg"));
+
+        worker.drain();
+
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    private static S3DeletionTask task(Long id, String fileKey, int attempts) {
+        S3DeletionTask task = BeanUtils.instantiateClass(S3DeletionTask.class);
+        ReflectionTestUtils.setField(task, "id", id);
+        ReflectionTestUtils.setField(task, "fileKey", fileKey);
+        ReflectionTestUtils.setField(task, "attempts", attempts);
+        ReflectionTestUtils.setField(task, "nextAttemptAt", LocalDateTime.now().minusMinutes(1));
+        return task;
+    }
+
+    private static S3Error error(String key) {
+        return S3Error.builder().key(key).code("AccessDenied").message("Access Denied").build();
+    }
+}
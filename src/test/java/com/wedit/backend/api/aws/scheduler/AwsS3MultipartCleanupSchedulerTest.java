@@ -0,0 +1,95 @@
+package com.wedit.backend.api.aws.scheduler;
+
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.paginators.ListMultipartUploadsIterable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AwsS3MultipartCleanupSchedulerTest {
+
+    private final Instant stale = Instant.now().minus(Duration.ofHours(48));
+
+    private S3Client s3Client;
+    private JobLockService jobLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private AwsS3MultipartCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        jobLockService = mock(JobLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(jobLockService.tryLock(anyString(), any())).thenReturn(true);
+
+        scheduler = new AwsS3MultipartCleanupScheduler(s3Client, jobLockService, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "bucketName", "bucket");
+        ReflectionTestUtils.setField(scheduler, "staleAfterHours", 24L);
+        ReflectionTestUtils.setField(scheduler, "maxRunMinutes", 30L);
+    }
+
+    @Test
+    void 한_건의_중단_요청이_실패해도_나머지_업로드는_계속_정리한다() {
+        uploads("vendors/", List.of(
+                upload("vendors/denied.jpg", "u1", stale),
+                upload("vendors/gone.jpg", "u2", stale),
+                upload("vendors/stale.jpg", "u3", stale),
+                upload("vendors/recent.jpg", "u4", Instant.now())));
+        uploads("products/", List.of(upload("products/stale.jpg", "u5", stale)));
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            String uploadId = invocation.<AbortMultipartUploadRequest>getArgument(0).uploadId();
+            if ("u1".equals(uploadId)) {
+                throw S3Exception.builder().statusCode(403).message("Access Denied").build();
+            }
+            if ("u2".equals(uploadId)) {
+                throw NoSuchUploadException.builder().statusCode(404).build();
+            }
+            return AbortMultipartUploadResponse.builder().build();
+        });
+
+        scheduler.abortStaleUploads();
+
+        ArgumentCaptor<AbortMultipartUploadRequest> aborted = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client, times(4)).abortMultipartUpload(aborted.capture());
+        assertThat(aborted.getAllValues()).extracting(AbortMultipartUploadRequest::uploadId)
+                .containsExactly("u1", "u2", "u3", "u5");
+        assertThat(meterRegistry.counter("s3.multipart.cleanup.aborted").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("s3.multipart.cleanup.failed").count()).isEqualTo(1.0);
+        verify(jobLockService).unlock("s3-multipart-cleanup");
+    }
+
+    private void uploads(String prefix, List<MultipartUpload> uploads) {
+        ListMultipartUploadsIterable paginator = mock(ListMultipartUploadsIterable.class);
+        when(paginator.uploads()).thenReturn(uploads::iterator);
+        when(s3Client.listMultipartUploadsPaginator(eq(ListMultipartUploadsRequest.builder()
+                .bucket("bucket")
+                .prefix(prefix)
+                .build()))).thenReturn(paginator);
+    }
+
+    private static MultipartUpload upload(String key, String uploadId, Instant initiated) {
+        return MultipartUpload.builder().key(key).uploadId(uploadId).initiated(initiated).build();
+    }
+}
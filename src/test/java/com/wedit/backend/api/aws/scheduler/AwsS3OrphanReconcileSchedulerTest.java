@@ -0,0 +1,168 @@
+package com.wedit.backend.api.aws.scheduler;
+
+import com.wedit.backend.api.aws.service.AwsS3Service;
+import com.wedit.backend.api.product.repository.ProductMediaRepository;
+import com.wedit.backend.api.vendor.repository.VendorMediaRepository;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AwsS3OrphanReconcileSchedulerTest {
+
+    private final Instant now = Instant.now();
+    private final Instant cutoff = now.minus(Duration.ofHours(72));
+
+    private S3Client s3Client;
+    private AwsS3Service awsS3Service;
+    private VendorMediaRepository vendorMediaRepository;
+    private ProductMediaRepository productMediaRepository;
+    private JobLockService jobLockService;
+    private SimpleMeterRegistry meterRegistry;
+    private AwsS3OrphanReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        awsS3Service = mock(AwsS3Service.class);
+        vendorMediaRepository = mock(VendorMediaRepository.class);
+        productMediaRepository = mock(ProductMediaRepository.class);
+        jobLockService = mock(JobLockService.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        scheduler = new AwsS3OrphanReconcileScheduler(s3Client, awsS3Service, vendorMediaRepository,
+                productMediaRepository, jobLockService, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "bucketName", "bucket");
+        ReflectionTestUtils.setField(scheduler, "graceHours", 72L);
+        ReflectionTestUtils.setField(scheduler, "maxRunMinutes", 60L);
+        ReflectionTestUtils.setField(scheduler, "dryRun", false);
+    }
+
+    @Test
+    void 유예_기간이_지난_미등록_객체만_삭제_예약한다() {
+        when(vendorMediaRepository.findExistingFileKeys(anyCollection())).thenReturn(List.of("vendors/registered.jpg"));
+        when(productMediaRepository.findExistingFileKeys(anyCollection())).thenReturn(List.of("products/registered.jpg"));
+
+        int orphans = scheduler.enqueueOrphans(List.of(
+                object("vendors/registered.jpg", now.minus(Duration.ofDays(10))),
+                object("products/registered.jpg", now.minus(Duration.ofDays(10))),
+                object("vendors/orphan.jpg", now.minus(Duration.ofDays(10))),
+                object("vendors/uploading.jpg", now.minus(Duration.ofHours(1)))
+        ), cutoff);
+
+        assertThat(orphans).isEqualTo(1);
+        assertThat(capturedDeletion()).containsExactly("vendors/orphan.jpg");
+        assertThat(meterRegistry.counter("s3.reconcile.orphans").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 유예_기간_안의_객체만_있으면_미디어_테이블을_조회하지_않는다() {
+        int orphans = scheduler.enqueueOrphans(List.of(
+                object("vendors/new-1.jpg", now.minus(Duration.ofHours(71))),
+                object("vendors/new-2.jpg", now)
+        ), cutoff);
+
+        assertThat(orphans).isZero();
+        verifyNoInteractions(vendorMediaRepository, productMediaRepository, awsS3Service);
+    }
+
+    @Test
+    void 모두_등록된_객체면_상품_미디어는_조회하지_않고_삭제도_예약하지_않는다() {
+        when(vendorMediaRepository.findExistingFileKeys(anyCollection())).thenReturn(List.of("vendors/a.jpg"));
+
+        int orphans = scheduler.enqueueOrphans(List.of(object("vendors/a.jpg", now.minus(Duration.ofDays(5)))), cutoff);
+
+        assertThat(orphans).isZero();
+        verifyNoInteractions(productMediaRepository, awsS3Service);
+    }
+
+    @Test
+    void dry_run_이면_집계만_하고_삭제_예약하지_않는다() {
+        ReflectionTestUtils.setField(scheduler, "dryRun", true);
+
+        int orphans = scheduler.enqueueOrphans(List.of(object("vendors/orphan.jpg", now.minus(Duration.ofDays(10)))), cutoff);
+
+        assertThat(orphans).isEqualTo(1);
+        assertThat(meterRegistry.counter("s3.reconcile.orphans").count()).isEqualTo(1.0);
+        verify(awsS3Service, never()).deleteFiles(anyCollection());
+    }
+
+    @Test
+    void 전체_점검은_grace_hours_기준으로_페이지를_이어서_대조한다() {
+        when(jobLockService.tryLock(eq("s3-orphan-reconcile"), any())).thenReturn(true);
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(invocation -> {
+            ListObjectsV2Request request = invocation.getArgument(0);
+            if (!request.prefix().equals("vendors/")) {
+                return ListObjectsV2Response.builder().keyCount(0).build();
+            }
+            if (request.continuationToken() == null) {
+                return ListObjectsV2Response.builder()
+                        .contents(object("vendors/old-1.jpg", Instant.now().minus(Duration.ofHours(73))))
+                        .keyCount(1)
+                        .nextContinuationToken("page-2")
+                        .build();
+            }
+            return ListObjectsV2Response.builder()
+                    .contents(
+                            object("vendors/old-2.jpg", Instant.now().minus(Duration.ofHours(80))),
+                            object("vendors/recent.jpg", Instant.now().minus(Duration.ofHours(71))))
+                    .keyCount(2)
+                    .build();
+        });
+
+        scheduler.reconcile();
+
+        ArgumentCaptor<Collection<String>> deleted = deletionCaptor();
+        verify(awsS3Service, times(2)).deleteFiles(deleted.capture());
+        assertThat(deleted.getAllValues()).flatMap(keys -> keys)
+                .containsExactlyInAnyOrder("vendors/old-1.jpg", "vendors/old-2.jpg");
+        assertThat(meterRegistry.counter("s3.reconcile.scanned").count()).isEqualTo(3.0);
+        verify(jobLockService).unlock("s3-orphan-reconcile");
+    }
+
+    @Test
+    void 다른_인스턴스가_실행_중이면_점검하지_않는다() {
+        when(jobLockService.tryLock(eq("s3-orphan-reconcile"), any())).thenReturn(false);
+
+        scheduler.reconcile();
+
+        verifyNoInteractions(s3Client, awsS3Service);
+    }
+
+    private Collection<String> capturedDeletion() {
+        ArgumentCaptor<Collection<String>> captor = deletionCaptor();
+        verify(awsS3Service).deleteFiles(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<String>> deletionCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.wedit.backend.api.aws.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AwsS3MultipartServiceTest {
+
+    private static final long MIB = 1024L * 1024L;
+    private static final long GIB = 1024L * MIB;
+    private static final long TIB = 1024L * GIB;
+
+    @Test
+    void 작은_파일은_설정된_최소_파트_크기를_사용한다() {
+        AwsS3MultipartService service = service(8L);
+
+        assertThat(service.partSizeFor(1L)).isEqualTo(8 * MIB);
+        assertThat(service.partSizeFor(100 * MIB)).isEqualTo(8 * MIB);
+    }
+
+    @Test
+    void 최소_파트_크기는_S3_하한_5MiB_보다_작아지지_않는다() {
+        AwsS3MultipartService service = service(1L);
+
+        assertThat(service.partSizeFor(10 * MIB)).isEqualTo(5 * MIB);
+    }
+
+    @Test
+    void 파트_수가_10000_개를_넘는_순간_파트_크기를_MiB_단위로_올린다() {
+        AwsS3MultipartService service = service(8L);
+
+        assertThat(service.partSizeFor(10_000 * 8 * MIB)).isEqualTo(8 * MIB);
+        assertThat(service.partSizeFor(10_000 * 8 * MIB + 1)).isEqualTo(9 * MIB);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 5 * MIB, 8 * MIB + 1, 20 * GIB, 78 * GIB + 7, 100 * GIB, TIB, 5 * TIB})
+    void 파트_크기는_MiB_배수이며_파트_수는_S3_최대치를_넘지_않는다(long contentLength) {
+        AwsS3MultipartService service = service(8L);
+
+        long partSize = service.partSizeFor(contentLength);
+
+        assertThat(partSize % MIB).isZero();
+        assertThat(partSize).isGreaterThanOrEqualTo(8 * MIB);
+        assertThat(Math.ceilDiv(contentLength, partSize)).isLessThanOrEqualTo(10_000L);
+    }
+
+    private static AwsS3MultipartService service(long minPartSizeMb) {
+        AwsS3MultipartService service = new AwsS3MultipartService(null, null, null);
+        ReflectionTestUtils.setField(service, "minPartSizeMb", minPartSizeMb);
+        return service;
+    }
+}
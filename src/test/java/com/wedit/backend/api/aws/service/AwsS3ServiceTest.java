@@ -0,0 +1,96 @@
+package com.wedit.backend.api.aws.service;
+
+import com.wedit.backend.api.aws.dto.AwsS3RequestDTO;
+import com.wedit.backend.api.aws.dto.AwsS3ResponseDTO;
+import com.wedit.backend.api.aws.enums.AwsS3Directory;
+import com.wedit.backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/// 일괄 발급 시 요청 순서 보존과 서명 예외 전파 검증
+class AwsS3ServiceTest {
+
+    private static final int REQUEST_COUNT = 8;
+
+    private AwsS3PresignEngine presignEngine;
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() {
+        presignEngine = mock(AwsS3PresignEngine.class);
+        when(presignEngine.supportsRegion()).thenReturn(true);
+
+        awsS3Service = new AwsS3Service(mock(S3Presigner.class), presignEngine, mock(JdbcTemplate.class));
+        ReflectionTestUtils.setField(awsS3Service, "bucketName", "wedit-bucket");
+        ReflectionTestUtils.setField(awsS3Service, "expirationMinutes", 10);
+        ReflectionTestUtils.setField(awsS3Service, "cloudFrontBaseUrl", "https://cdn.wedit.com");
+        ReflectionTestUtils.setField(awsS3Service, "presignEngine", "native");
+        ReflectionTestUtils.setField(awsS3Service, "endpoint", "");
+        ReflectionTestUtils.setField(awsS3Service, "presignThreads", 4);
+        ReflectionTestUtils.setField(awsS3Service, "presignQueueCapacity", 200);
+        awsS3Service.initPresignExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        awsS3Service.shutdownPresignExecutor();
+    }
+
+    @Test
+    void 먼저_요청한_서명이_늦게_끝나도_요청_순서대로_반환한다() {
+        // 앞선 요청일수록 서명이 오래 걸리도록 하여 완료 순서를 요청 순서와 반대로 만듦
+        when(presignEngine.presignPut(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            String contentType = invocation.getArgument(1);
+            int index = Integer.parseInt(contentType.substring(contentType.lastIndexOf('-') + 1));
+            Thread.sleep((REQUEST_COUNT - index) * 10L);
+            return "https://signed/" + index + "/" + invocation.getArgument(0);
+        });
+
+        List<AwsS3RequestDTO> requests = requests();
+        List<AwsS3ResponseDTO> responses = awsS3Service.generatePresignedUrls(requests);
+
+        assertThat(responses).hasSize(REQUEST_COUNT);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            AwsS3ResponseDTO response = responses.get(i);
+            assertThat(response.fileKey()).startsWith(requests.get(i).directory().getPath() + "/").endsWith(".jpg");
+            assertThat(response.presignedUrl()).isEqualTo("https://signed/" + i + "/" + response.fileKey());
+            assertThat(response.cloudFrontUrl()).isEqualTo("https://cdn.wedit.com/" + response.fileKey());
+        }
+    }
+
+    @Test
+    void 서명_중_발생한_예외는_감싸지_않고_그대로_전파한다() {
+        BadRequestException failure = new BadRequestException("서명할 수 없는 Content-Type 입니다.");
+        when(presignEngine.presignPut(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            if (((String) invocation.getArgument(1)).endsWith("-3")) {
+                throw failure;
+            }
+            return "https://signed/" + invocation.getArgument(0);
+        });
+
+        assertThatThrownBy(() -> awsS3Service.generatePresignedUrls(requests())).isSameAs(failure);
+    }
+
+    private static List<AwsS3RequestDTO> requests() {
+        return IntStream.range(0, REQUEST_COUNT)
+                .mapToObj(i -> new AwsS3RequestDTO(
+                        i % 2 == 0 ? AwsS3Directory.VENDORS : AwsS3Directory.PRODUCTS,
+                        "photo-" + i + ".jpg",
+                        "image/x-" + i))
+                .toList();
+    }
+}
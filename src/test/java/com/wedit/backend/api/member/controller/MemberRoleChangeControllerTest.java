@@ -0,0 +1,115 @@
+package com.wedit.backend.api.member.controller;
+
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.jwt.filter.FilterExceptionHandler;
+import com.wedit.backend.api.member.jwt.service.JwtService;
+import com.wedit.backend.api.member.jwt.service.TokenRevocationService;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.member.service.MemberPrincipalCacheService;
+import com.wedit.backend.api.member.service.MemberService;
+import com.wedit.backend.common.config.jwt.JwtConfig;
+import com.wedit.backend.common.config.security.SecurityConfig;
+import com.wedit.backend.common.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
+import com.wedit.backend.common.oauth2.OAuth2AuthenticationFailureHandler;
+import com.wedit.backend.common.oauth2.OAuth2AuthenticationSuccessHandler;
+import com.wedit.backend.common.oauth2.OAuth2UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/// 회원 권한 변경은 관리자만 호출할 수 있는지 검증
+@WebMvcTest(controllers = MemberController.class, properties = {
+        "jwt.secretKey=d2VkaXQtb2F1dGgyLWNvb2tpZS10ZXN0LXNlY3JldC1rZXktMDEyMzQ1Njc4OQ==",
+        "jwt.access.header=Authorization",
+        "spring.security.oauth2.client.registration.kakao.client-id=kakao-client",
+        "spring.security.oauth2.client.registration.kakao.client-secret=kakao-secret",
+        "spring.security.oauth2.client.registration.kakao.authorization-grant-type=authorization_code",
+        "spring.security.oauth2.client.registration.kakao.redirect-uri={baseUrl}/login/oauth2/code/{registrationId}",
+        "spring.security.oauth2.client.registration.kakao.scope=profile_nickname",
+        "spring.security.oauth2.client.provider.kakao.authorization-uri=https://kauth.kakao.com/oauth/authorize",
+        "spring.security.oauth2.client.provider.kakao.token-uri=https://kauth.kakao.com/oauth/token",
+        "spring.security.oauth2.client.provider.kakao.user-info-uri=https://kapi.kakao.com/v2/user/me",
+        "spring.security.oauth2.client.provider.kakao.user-name-attribute=id"
+})
+@Import({SecurityConfig.class, JwtConfig.class, FilterExceptionHandler.class,
+        HttpCookieOAuth2AuthorizationRequestRepository.class})
+class MemberRoleChangeControllerTest {
+
+    private static final String BODY = "{\"role\":\"ROLE_ADMIN\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockitoBean
+    private MemberPrincipalCacheService memberPrincipalCacheService;
+
+    @MockitoBean
+    private OAuth2UserService oAuth2UserService;
+
+    @MockitoBean
+    private OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+
+    @MockitoBean
+    private OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
+
+    @Test
+    void 관리자는_회원_권한을_변경할_수_있다() throws Exception {
+        mockMvc.perform(patch("/api/v1/member/7/role")
+                        .with(user("admin").authorities(() -> Role.ROLE_ADMIN.name()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isOk());
+
+        verify(memberService).changeRole(7L, Role.ROLE_ADMIN);
+    }
+
+    @Test
+    void 일반_회원은_권한을_변경할_수_없다() throws Exception {
+        mockMvc.perform(patch("/api/v1/member/7/role")
+                        .with(user("user").authorities(() -> Role.ROLE_USER.name()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isForbidden());
+
+        verify(memberService, never()).changeRole(anyLong(), any());
+    }
+
+    @Test
+    void 권한_값이_없으면_거부한다() throws Exception {
+        mockMvc.perform(patch("/api/v1/member/7/role")
+                        .with(user("admin").authorities(() -> Role.ROLE_ADMIN.name()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verify(memberService, never()).changeRole(anyLong(), any());
+    }
+}
@@ -0,0 +1,11 @@
+package com.wedit.backend.api.member.jwt.store;
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+    @Override
+    protected RefreshTokenStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,46 @@
+package com.wedit.backend.api.member.jwt.store;
+
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/// 기본 저장소(refresh_token 테이블) 계약 검증 (H2 MySQL 호환 모드)
+/// 저장소 메서드가 각자 트랜잭션을 커밋하도록 테스트 트랜잭션은 사용하지 않음 (동시 교체 검증)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:refresh-token-store;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaRefreshTokenStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    @Autowired
+    private JpaRefreshTokenStore store;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Override
+    protected RefreshTokenStore store() {
+        return store;
+    }
+
+    // refresh_token.member_id FK 를 만족하도록 회원을 먼저 저장
+    @Override
+    protected Long newMemberId() {
+        return memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@wedit.com")
+                .name("user")
+                .role(Role.ROLE_USER)
+                .build()).getId();
+    }
+}
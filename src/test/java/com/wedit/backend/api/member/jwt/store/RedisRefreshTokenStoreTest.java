@@ -0,0 +1,63 @@
+package com.wedit.backend.api.member.jwt.store;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/// Redis 가 떠 있을 때만 실행 (REDIS_HOST / REDIS_PORT, 기본 localhost:6379), 없으면 건너뜀
+class RedisRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisRefreshTokenStore store;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofSeconds(2))
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(Duration.ofSeconds(1)).build())
+                        .build())
+                .build();
+
+        connectionFactory = new LettuceConnectionFactory(configuration, clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        assumeTrue(isReachable(template), "Redis 에 연결할 수 없어 Redis 저장소 계약 테스트를 건너뜀");
+
+        store = new RedisRefreshTokenStore(template);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Override
+    protected RefreshTokenStore store() {
+        return store;
+    }
+
+    private static boolean isReachable(StringRedisTemplate template) {
+        try {
+            return "PONG".equals(template.execute(connection -> connection.ping(), true));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
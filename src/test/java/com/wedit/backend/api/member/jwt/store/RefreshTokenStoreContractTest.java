@@ -0,0 +1,169 @@
+package com.wedit.backend.api.member.jwt.store;
+
+import com.wedit.backend.api.member.jwt.dto.HashedRefreshToken;
+import com.wedit.backend.api.member.jwt.dto.RefreshTokenSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// RefreshTokenStore 구현체 공통 계약 (저장 / 교체 / 동시 교체 충돌 / 삭제)
+/// 구현체별 테스트는 store() 만 제공
+abstract class RefreshTokenStoreContractTest {
+
+    private static final int MAX_SESSIONS = 5;
+
+    private Long memberId;
+
+    protected abstract RefreshTokenStore store();
+
+    // 공유 저장소(Redis)에서도 다른 테스트와 겹치지 않도록 임의 회원 ID 사용 (회원 FK 가 있는 저장소는 재정의)
+    protected Long newMemberId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+    }
+
+    @BeforeEach
+    void setUpMember() {
+        memberId = newMemberId();
+    }
+
+    @AfterEach
+    void cleanUpMember() {
+        store().deleteAllByMemberId(memberId);
+    }
+
+    @Test
+    void save_후_토큰으로_세션을_조회한다() {
+        HashedRefreshToken token = newToken();
+
+        store().save(memberId, "web", token, expiresAt(), MAX_SESSIONS);
+
+        RefreshTokenSession session = store().findByToken(token).orElseThrow();
+        assertThat(session.memberId()).isEqualTo(memberId);
+        assertThat(session.deviceInfo()).isEqualTo("web");
+        assertThat(session.isExpired()).isFalse();
+    }
+
+    @Test
+    void 같은_기기로_다시_저장하면_이전_토큰은_무효화된다() {
+        HashedRefreshToken first = newToken();
+        HashedRefreshToken second = newToken();
+
+        store().save(memberId, "web", first, expiresAt(), MAX_SESSIONS);
+        store().save(memberId, "web", second, expiresAt(), MAX_SESSIONS);
+
+        assertThat(store().findByToken(first)).isEmpty();
+        assertThat(store().findByToken(second)).isPresent();
+    }
+
+    @Test
+    void 세션_수를_넘으면_가장_오래_사용하지_않은_세션을_제거한다() throws InterruptedException {
+        HashedRefreshToken oldest = newToken();
+        HashedRefreshToken middle = newToken();
+        HashedRefreshToken newest = newToken();
+
+        store().save(memberId, "device-1", oldest, expiresAt(), 2);
+        Thread.sleep(5);
+        store().save(memberId, "device-2", middle, expiresAt(), 2);
+        Thread.sleep(5);
+        store().save(memberId, "device-3", newest, expiresAt(), 2);
+
+        assertThat(store().findByToken(oldest)).isEmpty();
+        assertThat(store().findByToken(middle)).isPresent();
+        assertThat(store().findByToken(newest)).isPresent();
+    }
+
+    @Test
+    void rotate_성공_시_이전_토큰은_무효화되고_새_토큰으로_조회된다() {
+        HashedRefreshToken oldToken = newToken();
+        HashedRefreshToken newToken = newToken();
+        store().save(memberId, "web", oldToken, expiresAt(), MAX_SESSIONS);
+
+        boolean rotated = store().rotate(oldToken, newToken, expiresAt().plusDays(1));
+
+        assertThat(rotated).isTrue();
+        assertThat(store().findByToken(oldToken)).isEmpty();
+        RefreshTokenSession session = store().findByToken(newToken).orElseThrow();
+        assertThat(session.memberId()).isEqualTo(memberId);
+        assertThat(session.deviceInfo()).isEqualTo("web");
+    }
+
+    @Test
+    void 이미_교체된_토큰으로는_다시_교체할_수_없다() {
+        HashedRefreshToken oldToken = newToken();
+        store().save(memberId, "web", oldToken, expiresAt(), MAX_SESSIONS);
+
+        assertThat(store().rotate(oldToken, newToken(), expiresAt())).isTrue();
+        assertThat(store().rotate(oldToken, newToken(), expiresAt())).isFalse();
+    }
+
+    @Test
+    void 동시에_같은_토큰으로_교체하면_한_요청만_성공한다() {
+        HashedRefreshToken oldToken = newToken();
+        store().save(memberId, "web", oldToken, expiresAt(), MAX_SESSIONS);
+
+        int requests = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<HashedRefreshToken> candidates = IntStream.range(0, requests)
+                .mapToObj(i -> newToken())
+                .toList();
+
+        List<CompletableFuture<Boolean>> futures = candidates.stream()
+                .map(candidate -> CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return store().rotate(oldToken, candidate, expiresAt());
+                }))
+                .toList();
+        start.countDown();
+
+        long succeeded = futures.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+        long alive = candidates.stream().filter(candidate -> store().findByToken(candidate).isPresent()).count();
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(alive).isEqualTo(1);
+    }
+
+    @Test
+    void 존재하지_않는_토큰은_교체할_수_없다() {
+        assertThat(store().rotate(newToken(), newToken(), expiresAt())).isFalse();
+    }
+
+    @Test
+    void 회원의_모든_세션을_삭제한다() {
+        HashedRefreshToken web = newToken();
+        HashedRefreshToken mobile = newToken();
+        store().save(memberId, "web", web, expiresAt(), MAX_SESSIONS);
+        store().save(memberId, "mobile", mobile, expiresAt(), MAX_SESSIONS);
+
+        store().deleteAllByMemberId(memberId);
+
+        assertThat(store().findByToken(web)).isEmpty();
+        assertThat(store().findByToken(mobile)).isEmpty();
+        assertThat(store().rotate(web, newToken(), expiresAt())).isFalse();
+    }
+
+    private static HashedRefreshToken newToken() {
+        return HashedRefreshToken.of(UUID.randomUUID().toString());
+    }
+
+    private static LocalDateTime expiresAt() {
+        return LocalDateTime.now().plusDays(14);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
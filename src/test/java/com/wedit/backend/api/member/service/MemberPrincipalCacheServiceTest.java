@@ -0,0 +1,105 @@
+package com.wedit.backend.api.member.service;
+
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.event.MemberChangedEvent;
+import com.wedit.backend.api.member.jwt.dto.JwtClaims;
+import com.wedit.backend.api.member.jwt.service.TokenRevocationService;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/// 탈퇴/권한 변경 시 Access Token 폐기가 커밋 이후 모든 인스턴스에 반영되는지 검증
+class MemberPrincipalCacheServiceTest {
+
+    private static final long ACCESS_EXPIRATION_MS = 3_600_000L;
+
+    private StringRedisTemplate redisTemplate;
+    private TokenRevocationService revocationA;
+    private TokenRevocationService revocationB;
+    private MemberPrincipalCacheService nodeA;
+    private MemberPrincipalCacheService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        revocationA = new TokenRevocationService(ACCESS_EXPIRATION_MS);
+        revocationB = new TokenRevocationService(ACCESS_EXPIRATION_MS);
+
+        // 회원 캐시는 기본값(비활성)으로 두어, 캐시 사용 여부와 무관하게 폐기가 전파되는지 확인
+        nodeA = node(revocationA);
+        nodeB = node(revocationB);
+    }
+
+    @Test
+    void 토큰_폐기_이벤트는_로컬에_반영하고_다른_인스턴스에_전파한다() {
+        JwtClaims issuedBefore = accessClaims(1L, Instant.now().minusSeconds(60));
+
+        nodeA.onMemberChanged(new MemberChangedEvent(1L, "user@wedit.com", null, true));
+
+        assertThat(revocationA.isRevoked(issuedBefore)).isTrue();
+        assertThat(revocationB.isRevoked(issuedBefore)).isFalse();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(MemberPrincipalCacheService.INVALIDATION_CHANNEL), message.capture());
+        nodeB.onInvalidationMessage(message.getValue());
+
+        assertThat(revocationB.isRevoked(issuedBefore)).isTrue();
+        assertThat(revocationB.isRevoked(accessClaims(2L, Instant.now().minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    void 폐기_이후_발급된_토큰은_다른_인스턴스에서도_유효하다() {
+        Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        nodeB.onInvalidationMessage(MemberPrincipalCacheService.toMessage("user@wedit.com", null, 1L, revokedAt));
+
+        assertThat(revocationB.isRevoked(accessClaims(1L, revokedAt))).isTrue();
+        assertThat(revocationB.isRevoked(accessClaims(1L, revokedAt.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    void 늦게_도착한_이전_폐기_메시지는_최신_폐기_시각을_덮어쓰지_않는다() {
+        Instant latest = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        nodeB.onInvalidationMessage(MemberPrincipalCacheService.toMessage(null, "kakao_1", 1L, latest));
+        nodeB.onInvalidationMessage(MemberPrincipalCacheService.toMessage(null, "kakao_1", 1L, latest.minusSeconds(30)));
+
+        assertThat(revocationB.isRevoked(accessClaims(1L, latest.minusSeconds(10)))).isTrue();
+    }
+
+    @Test
+    void 캐시가_비활성이고_폐기가_없는_변경은_전파하지_않는다() {
+        nodeA.onMemberChanged(new MemberChangedEvent(1L, "user@wedit.com", null, false));
+
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        assertThat(revocationA.isRevoked(accessClaims(1L, Instant.now().minusSeconds(60)))).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private MemberPrincipalCacheService node(TokenRevocationService tokenRevocationService) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redisTemplate);
+        return new MemberPrincipalCacheService(mock(MemberRepository.class), tokenRevocationService,
+                new SimpleMeterRegistry(), provider, false, 100L, 30L);
+    }
+
+    private static JwtClaims accessClaims(Long memberId, Instant issuedAt) {
+        return new JwtClaims(memberId, "user@wedit.com", Role.ROLE_USER, JwtClaims.ACCESS_TYPE,
+                issuedAt.truncatedTo(ChronoUnit.SECONDS), issuedAt.plusMillis(ACCESS_EXPIRATION_MS));
+    }
+}
@@ -0,0 +1,121 @@
+package com.wedit.backend.api.member.service;
+
+import com.wedit.backend.api.member.dto.MemberLoginResponseDTO;
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.jwt.dto.HashedRefreshToken;
+import com.wedit.backend.api.member.jwt.service.JwtService;
+import com.wedit.backend.api.member.jwt.service.RefreshTokenService;
+import com.wedit.backend.api.member.jwt.store.RefreshTokenStore;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.common.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/// 토큰 재발급 1회당 서명 검증 1회 + 저장소 교체 1회만 수행하는지 검증
+class MemberServiceReissueTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("wedit-reissue-test-secret-key-0123456789".getBytes());
+
+    private final Member member = Member.builder()
+            .id(1L)
+            .email("user@wedit.com")
+            .name("user")
+            .role(Role.ROLE_USER)
+            .build();
+
+    private RefreshTokenStore refreshTokenStore;
+    private MemberRepository memberRepository;
+    private JwtService jwtService;
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        memberRepository = mock(MemberRepository.class);
+        RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenStore);
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessions", 5);
+        jwtService = spy(new JwtService(SECRET, 60_000L, 1_209_600_000L, 100L, refreshTokenService));
+
+        memberService = new MemberService(
+                memberRepository,
+                mock(PasswordHashingService.class),
+                jwtService,
+                refreshTokenService,
+                mock(ApplicationEventPublisher.class)
+        );
+
+        when(memberRepository.findByIdAndDeletedFalse(member.getId())).thenReturn(Optional.of(member));
+    }
+
+    @Test
+    void 재발급은_서명_검증_1회와_교체_1회만_수행한다() {
+        String refreshToken = jwtService.createRefreshToken(member.getId(), "web");
+        clearInvocations(jwtService, refreshTokenStore);
+        when(refreshTokenStore.rotate(any(), any(), any())).thenReturn(true);
+
+        MemberLoginResponseDTO response = memberService.reissueTokens(refreshToken);
+
+        verify(jwtService, times(1)).parseAndVerify(refreshToken);
+        verify(jwtService, times(1)).parseAndVerify(anyString());
+
+        ArgumentCaptor<HashedRefreshToken> oldToken = ArgumentCaptor.forClass(HashedRefreshToken.class);
+        ArgumentCaptor<HashedRefreshToken> newToken = ArgumentCaptor.forClass(HashedRefreshToken.class);
+        verify(refreshTokenStore, times(1)).rotate(oldToken.capture(), newToken.capture(), any(LocalDateTime.class));
+        // 교체 전 별도 조회/저장 없이 CAS 교체 1회로 끝나야 함
+        verifyNoMoreInteractions(refreshTokenStore);
+
+        assertThat(oldToken.getValue().token()).isEqualTo(refreshToken);
+        assertThat(newToken.getValue().token()).isEqualTo(response.getRefreshToken());
+        assertThat(response.getAccessToken()).isNotBlank();
+        verify(memberRepository, times(1)).findByIdAndDeletedFalse(member.getId());
+    }
+
+    @Test
+    void 이미_교체된_토큰이면_Access_Token_을_발급하지_않는다() {
+        String refreshToken = jwtService.createRefreshToken(member.getId(), "web");
+        clearInvocations(jwtService, refreshTokenStore);
+        when(refreshTokenStore.rotate(any(), any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> memberService.reissueTokens(refreshToken))
+                .isInstanceOf(NotFoundException.class);
+
+        verify(jwtService, times(1)).parseAndVerify(anyString());
+        verify(refreshTokenStore, times(1)).rotate(any(), any(), any());
+        verify(jwtService, never()).createAccessToken(anyLong(), any(), any());
+    }
+
+    @Test
+    void Access_Token_으로는_재발급할_수_없다() {
+        String accessToken = jwtService.createAccessToken(member.getId(), member.getEmail(), member.getRole());
+        clearInvocations(jwtService, refreshTokenStore);
+
+        assertThatThrownBy(() -> memberService.reissueTokens(accessToken))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(jwtService, times(1)).parseAndVerify(anyString());
+        verifyNoMoreInteractions(refreshTokenStore);
+    }
+}
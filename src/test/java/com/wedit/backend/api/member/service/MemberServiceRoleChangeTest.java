@@ -0,0 +1,59 @@
+package com.wedit.backend.api.member.service;
+
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.event.MemberChangedEvent;
+import com.wedit.backend.api.member.jwt.service.JwtService;
+import com.wedit.backend.api.member.jwt.service.RefreshTokenService;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/// 권한 변경 시 커밋 이후 토큰 폐기/캐시 무효화 이벤트를 발행하는지 검증
+class MemberServiceRoleChangeTest {
+
+    private Member member;
+    private ApplicationEventPublisher eventPublisher;
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .id(1L)
+                .email("user@wedit.com")
+                .name("user")
+                .role(Role.ROLE_USER)
+                .build();
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(memberRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(member));
+
+        memberService = new MemberService(memberRepository, mock(PasswordHashingService.class), mock(JwtService.class),
+                mock(RefreshTokenService.class), eventPublisher);
+    }
+
+    @Test
+    void 권한을_변경하면_토큰_폐기_이벤트를_발행한다() {
+        memberService.changeRole(1L, Role.ROLE_ADMIN);
+
+        assertThat(member.getRole()).isEqualTo(Role.ROLE_ADMIN);
+        verify(eventPublisher).publishEvent(new MemberChangedEvent(1L, "user@wedit.com", null, true));
+    }
+
+    @Test
+    void 같은_권한으로_변경하면_이벤트를_발행하지_않는다() {
+        memberService.changeRole(1L, Role.ROLE_USER);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,72 @@
+package com.wedit.backend.api.member.service;
+
+import com.wedit.backend.api.member.dto.MemberSignupRequestDTO;
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.jwt.service.JwtService;
+import com.wedit.backend.api.member.jwt.service.RefreshTokenService;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/// 회원가입 시 비밀번호 해시를 트랜잭션 밖에서 생성하는지 검증
+class MemberServiceSignupTest {
+
+    private MemberRepository memberRepository;
+    private PasswordHashingService passwordHashingService;
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        passwordHashingService = mock(PasswordHashingService.class);
+
+        memberService = new MemberService(memberRepository, passwordHashingService, mock(JwtService.class),
+                mock(RefreshTokenService.class), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void 비밀번호는_트랜잭션_밖에서_해시한_뒤_저장한다() {
+        when(passwordHashingService.encode("password1234")).thenReturn("{argon2}hash");
+
+        memberService.signup(request("user@wedit.com"));
+
+        // 중복 확인 -> 해시 -> 저장 순서로, 해시 생성 중에는 어떤 트랜잭션도 열려 있지 않음
+        ArgumentCaptor<Member> saved = ArgumentCaptor.forClass(Member.class);
+        InOrder inOrder = inOrder(memberRepository, passwordHashingService);
+        inOrder.verify(memberRepository).existsByEmailAndDeletedFalse("user@wedit.com");
+        inOrder.verify(passwordHashingService).encode("password1234");
+        inOrder.verify(memberRepository).save(saved.capture());
+        assertThat(saved.getValue().getPassword()).isEqualTo("{argon2}hash");
+    }
+
+    @Test
+    void 이미_가입된_이메일이면_해시를_만들지_않고_거부한다() {
+        when(memberRepository.existsByEmailAndDeletedFalse("user@wedit.com")).thenReturn(true);
+
+        assertThatThrownBy(() -> memberService.signup(request("user@wedit.com")))
+                .isInstanceOf(IllegalStateException.class);
+        verify(passwordHashingService, never()).encode(anyString());
+        verify(memberRepository, never()).save(any());
+    }
+
+    private static MemberSignupRequestDTO request(String email) {
+        MemberSignupRequestDTO dto = new MemberSignupRequestDTO();
+        dto.setEmail(email);
+        dto.setPassword("password1234");
+        dto.setName("사용자");
+        return dto;
+    }
+}
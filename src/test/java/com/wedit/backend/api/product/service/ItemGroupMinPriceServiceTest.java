@@ -0,0 +1,92 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.product.dto.ItemGroupProductPriceRow;
+import com.wedit.backend.api.product.entity.ItemGroup;
+import com.wedit.backend.api.product.event.ItemGroupPriceChangedEvent;
+import com.wedit.backend.api.product.repository.ItemGroupRepository;
+import com.wedit.backend.api.product.repository.OptionGroupRepository;
+import com.wedit.backend.api.product.repository.ProductRepository;
+import com.wedit.backend.common.lock.service.JobLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ItemGroupMinPriceServiceTest {
+
+    private ItemGroupRepository itemGroupRepository;
+    private ProductRepository productRepository;
+    private OptionGroupRepository optionGroupRepository;
+    private ItemGroupMinPriceService service;
+
+    @BeforeEach
+    void setUp() {
+        itemGroupRepository = mock(ItemGroupRepository.class);
+        productRepository = mock(ProductRepository.class);
+        optionGroupRepository = mock(OptionGroupRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(itemGroupRepository.findForUpdateById(anyLong())).thenReturn(Optional.empty());
+
+        service = new ItemGroupMinPriceService(itemGroupRepository, productRepository, optionGroupRepository,
+                mock(JobLockService.class), transactionTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 재계산_대상_조회에_실패하면_대기열을_되돌려_다음_주기에_재시도한다() {
+        service.onPriceChanged(new ItemGroupPriceChangedEvent(1L, null, null));
+        service.onPriceChanged(new ItemGroupPriceChangedEvent(null, 2L, null));
+        service.onPriceChanged(new ItemGroupPriceChangedEvent(null, null, 3L));
+        when(productRepository.findItemGroupIdsByIdIn(Set.of(2L)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of(20L));
+        when(optionGroupRepository.findItemGroupIdsByIdIn(Set.of(3L))).thenReturn(List.of(30L));
+
+        service.flushPending();
+
+        verify(itemGroupRepository, never()).findForUpdateById(anyLong());
+
+        service.flushPending();
+
+        verify(itemGroupRepository).findForUpdateById(1L);
+        verify(itemGroupRepository).findForUpdateById(20L);
+        verify(itemGroupRepository).findForUpdateById(30L);
+    }
+
+    @Test
+    void 새_아이템_그룹은_첫_상품이_재계산되기_전까지_최저가가_없다() {
+        ItemGroup itemGroup = ItemGroup.builder().name("본식 스냅").build();
+        when(itemGroupRepository.findForUpdateById(1L)).thenReturn(Optional.of(itemGroup));
+
+        assertThat(itemGroup.getCachedMinPrice()).isNull();
+
+        when(productRepository.findVisiblePricesByItemGroupId(1L)).thenReturn(List.of());
+        service.recompute(1L);
+        assertThat(itemGroup.getCachedMinPrice()).isNull();
+
+        when(productRepository.findVisiblePricesByItemGroupId(1L))
+                .thenReturn(List.of(new ItemGroupProductPriceRow(10L, 800_000L), new ItemGroupProductPriceRow(11L, 500_000L)));
+        when(optionGroupRepository.findMandatoryPricesByItemGroupId(1L)).thenReturn(List.of());
+        service.recompute(1L);
+        assertThat(itemGroup.getCachedMinPrice()).isEqualTo(500_000L);
+    }
+}
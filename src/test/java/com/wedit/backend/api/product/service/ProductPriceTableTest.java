@@ -0,0 +1,156 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.product.dto.ProductQuoteResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteSelectionDTO;
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ProductPriceTableTest {
+
+    private Product product;
+    private OptionGroup dress;      // 필수, 1개
+    private OptionGroup extras;     // 선택, 최대 2개
+    private OptionDetail silk;
+    private OptionDetail lace;
+    private OptionDetail photos;    // 수량 기반 (장, 최대 10)
+    private OptionDetail video;
+    private OptionDetail album;
+
+    @BeforeEach
+    void setUp() {
+        product = withId(Product.builder().name("스튜디오 촬영").basePrice(500_000L).build(), 1L);
+
+        dress = group(10L, "드레스", true, null, 1);
+        extras = group(20L, "추가 옵션", false, 0, 2);
+
+        silk = detail(101L, dress, "실크", 100_000L, null, null);
+        lace = detail(102L, dress, "레이스", 150_000L, null, null);
+        photos = detail(201L, extras, "추가 사진", 20_000L, "장", 10);
+        video = detail(202L, extras, "영상", 300_000L, null, null);
+        album = detail(203L, extras, "앨범", 200_000L, null, null);
+    }
+
+    @Test
+    void 기본_가격에_선택한_옵션_금액과_수량을_더해_계산한다() {
+        ProductQuoteResponseDTO quote = table().quote(List.of(select(102L, null), select(201L, 3)));
+
+        assertThat(quote.totalPrice()).isEqualTo(500_000L + 150_000L + 60_000L);
+        assertThat(quote.lines()).extracting("optionDetailId", "quantity", "amount")
+                .containsExactly(
+                        tuple(102L, 1, 150_000L),
+                        tuple(201L, 3, 60_000L));
+    }
+
+    @Test
+    void 필수_옵션_그룹을_선택하지_않으면_거부한다() {
+        assertRejected(table(), List.of(select(202L, null)), "1개 이상 선택");
+    }
+
+    @Test
+    void 옵션_그룹의_최대_선택_수를_초과하면_거부한다() {
+        assertRejected(table(), List.of(select(101L, null), select(102L, null)), "최대 1개");
+        assertRejected(table(), List.of(select(101L, null), select(201L, 1), select(202L, null), select(203L, null)),
+                "최대 2개");
+    }
+
+    @Test
+    void 선택_옵션_그룹은_고르지_않아도_된다() {
+        assertThat(table().quote(List.of(select(101L, null))).totalPrice()).isEqualTo(600_000L);
+    }
+
+    @Test
+    void 품절된_옵션은_거부한다() {
+        lace.toggleSoldOut();
+
+        assertRejected(table(), List.of(select(102L, null)), "품절");
+    }
+
+    @Test
+    void 수량_기반이_아닌_옵션에_수량을_지정하면_거부한다() {
+        assertRejected(table(), List.of(select(101L, null), select(202L, 2)), "수량을 지정할 수 없는");
+    }
+
+    @Test
+    void 최대_수량을_초과하거나_1_미만이면_거부한다() {
+        assertRejected(table(), List.of(select(101L, null), select(201L, 11)), "최대 선택 가능 수량");
+        assertRejected(table(), List.of(select(101L, null), select(201L, 0)), "1 이상");
+    }
+
+    @Test
+    void 존재하지_않거나_중복_선택한_옵션은_거부한다() {
+        assertRejected(table(), List.of(select(999L, null)), "존재하지 않는");
+        assertRejected(table(), List.of(select(101L, null), select(101L, null)), "중복");
+    }
+
+    @Test
+    void 금액이_long_범위를_넘으면_거부한다() {
+        OptionDetail expensive = detail(204L, extras, "초고가", Long.MAX_VALUE / 2, "개", null);
+        ProductPriceTable table = ProductPriceTable.compile(product, List.of(dress, extras),
+                List.of(silk, lace, photos, video, album, expensive));
+
+        assertRejected(table, List.of(select(101L, null), select(204L, 3)), "범위를 초과");
+        assertRejected(table, List.of(select(101L, null), select(204L, 2)), "범위를 초과");
+    }
+
+    @Test
+    void 다른_상품의_옵션_그룹에_속한_상세는_가격표에서_제외한다() {
+        OptionGroup otherGroup = group(30L, "다른 상품 옵션", false, 0, 1);
+        OptionDetail other = detail(301L, otherGroup, "다른 옵션", 1_000L, null, null);
+        ProductPriceTable table = ProductPriceTable.compile(product, List.of(dress, extras),
+                List.of(silk, lace, photos, video, album, other));
+
+        assertRejected(table, List.of(select(101L, null), select(301L, null)), "존재하지 않는");
+    }
+
+    private ProductPriceTable table() {
+        return ProductPriceTable.compile(product, List.of(dress, extras), List.of(silk, lace, photos, video, album));
+    }
+
+    private static void assertRejected(ProductPriceTable table, List<ProductQuoteSelectionDTO> selections, String message) {
+        assertThatThrownBy(() -> table.quote(selections))
+                .isInstanceOfSatisfying(BadRequestException.class,
+                        e -> assertThat(e.getResponseMessage()).contains(message));
+    }
+
+    private static ProductQuoteSelectionDTO select(Long optionDetailId, Integer quantity) {
+        return new ProductQuoteSelectionDTO(optionDetailId, quantity);
+    }
+
+    private OptionGroup group(Long id, String name, boolean mandatory, Integer minSelect, Integer maxSelect) {
+        OptionGroup group = withId(OptionGroup.builder()
+                .name(name)
+                .isMandatory(mandatory)
+                .minSelectCount(minSelect)
+                .maxSelectCount(maxSelect)
+                .build(), id);
+        group.assignProduct(product);
+        return group;
+    }
+
+    private static OptionDetail detail(Long id, OptionGroup group, String name, Long price, String unit, Integer maxCount) {
+        OptionDetail detail = withId(OptionDetail.builder()
+                .name(name)
+                .price(price)
+                .unit(unit)
+                .maxCount(maxCount)
+                .build(), id);
+        detail.assignOptionGroup(group);
+        return detail;
+    }
+
+    private static <T> T withId(T entity, Long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
@@ -0,0 +1,189 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.product.dto.ProductQuoteBatchItemDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteBatchItemResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteBatchResponseDTO;
+import com.wedit.backend.api.product.dto.ProductQuoteSelectionDTO;
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.api.product.event.ItemGroupPriceChangedEvent;
+import com.wedit.backend.api.product.repository.OptionDetailRepository;
+import com.wedit.backend.api.product.repository.OptionGroupRepository;
+import com.wedit.backend.api.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/// 일괄 견적의 항목별 오류 격리 / 가격표 일괄 적재 쿼리 수 / 적재 중 무효화 처리 검증
+class ProductQuoteServiceBatchTest {
+
+    private final List<Product> products = new ArrayList<>();
+    private final List<OptionGroup> optionGroups = new ArrayList<>();
+    private final List<OptionDetail> optionDetails = new ArrayList<>();
+
+    private ProductRepository productRepository;
+    private OptionGroupRepository optionGroupRepository;
+    private OptionDetailRepository optionDetailRepository;
+    private ProductQuoteService service;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        optionGroupRepository = mock(OptionGroupRepository.class);
+        optionDetailRepository = mock(OptionDetailRepository.class);
+
+        // 전달된 ID 에 해당하는 행만 반환하여 실제 IN 조회처럼 동작
+        when(productRepository.findByIdInAndIsVisibleTrueAndIsDeletedFalse(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return products.stream().filter(product -> ids.contains(product.getId())).toList();
+        });
+        when(optionGroupRepository.findByProductIdInOrderByOrdering(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return optionGroups.stream().filter(group -> ids.contains(group.getProduct().getId())).toList();
+        });
+        when(optionDetailRepository.findByOptionGroupIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return optionDetails.stream().filter(detail -> ids.contains(detail.getOptionGroup().getId())).toList();
+        });
+
+        service = new ProductQuoteService(productRepository, optionGroupRepository, optionDetailRepository,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 100L, 60L, 60L);
+        ReflectionTestUtils.setField(service, "batchThreads", 4);
+        ReflectionTestUtils.setField(service, "batchQueueCapacity", 200);
+        service.initQuoteExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdownQuoteExecutor();
+    }
+
+    @Test
+    void 항목별_오류는_해당_항목에만_담고_나머지는_정상_계산한다() {
+        product(1L, 300_000L);
+        Product studio = product(2L, 500_000L);
+        OptionGroup dress = group(20L, studio, true);
+        detail(201L, dress, 100_000L);
+
+        ProductQuoteBatchResponseDTO response = service.quoteBatch(List.of(
+                item(1L),
+                item(999L),
+                item(2L),
+                item(1L, (ProductQuoteSelectionDTO) null),
+                item(2L, new ProductQuoteSelectionDTO(201L, null))));
+
+        assertThat(response.items()).extracting(
+                        ProductQuoteBatchItemResponseDTO::index,
+                        ProductQuoteBatchItemResponseDTO::productId,
+                        ProductQuoteBatchItemResponseDTO::success,
+                        ProductQuoteBatchItemResponseDTO::errorStatus)
+                .containsExactly(
+                        tuple(0, 1L, true, null),
+                        tuple(1, 999L, false, 404),     // 존재하지 않는 상품
+                        tuple(2, 2L, false, 400),       // 필수 옵션 미선택
+                        tuple(3, 1L, false, 500),       // 예상하지 못한 오류 (null 선택 항목)
+                        tuple(4, 2L, true, null));
+        assertThat(response.items().get(4).quote().totalPrice()).isEqualTo(600_000L);
+        assertThat(response.successCount()).isEqualTo(2);
+        assertThat(response.failureCount()).isEqualTo(3);
+        assertThat(response.grandTotalPrice()).isEqualTo(900_000L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void 상품_수와_무관하게_가격표를_3번의_쿼리로_일괄_적재한다(int productCount) {
+        List<ProductQuoteBatchItemDTO> items = LongStream.rangeClosed(1, productCount)
+                .mapToObj(id -> {
+                    OptionGroup group = group(id * 10, product(id, 100_000L), false);
+                    detail(id * 100, group, 10_000L);
+                    return item(id, new ProductQuoteSelectionDTO(id * 100, null));
+                })
+                .toList();
+
+        ProductQuoteBatchResponseDTO first = service.quoteBatch(items);
+        ProductQuoteBatchResponseDTO second = service.quoteBatch(items);
+
+        assertThat(first.successCount()).isEqualTo(productCount);
+        assertThat(second.grandTotalPrice()).isEqualTo(first.grandTotalPrice()).isEqualTo(110_000L * productCount);
+        verify(productRepository, times(1)).findByIdInAndIsVisibleTrueAndIsDeletedFalse(anyCollection());
+        verify(optionGroupRepository, times(1)).findByProductIdInOrderByOrdering(anyCollection());
+        verify(optionDetailRepository, times(1)).findByOptionGroupIdIn(anyCollection());
+    }
+
+    @Test
+    void 적재_도중_무효화된_가격표는_이번_요청에만_사용하고_캐시에_남기지_않는다() {
+        product(1L, 300_000L);
+        product(2L, 500_000L);
+        List<Product> visible = List.copyOf(products);
+
+        // 첫 적재의 상품 조회 직후(가격표 생성 전) 다른 트랜잭션의 가격 변경이 커밋된 상황
+        when(productRepository.findByIdInAndIsVisibleTrueAndIsDeletedFalse(anyCollection()))
+                .thenAnswer(invocation -> {
+                    service.onPriceChanged(new ItemGroupPriceChangedEvent(null, 1L, null));
+                    return visible;
+                })
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    return visible.stream().filter(product -> ids.contains(product.getId())).toList();
+                });
+
+        ProductQuoteBatchResponseDTO response = service.quoteBatch(List.of(item(1L), item(2L)));
+
+        assertThat(response.successCount()).isEqualTo(2);
+
+        service.getPriceTable(1L);
+        service.getPriceTable(2L);
+
+        verify(productRepository, times(3)).findByIdInAndIsVisibleTrueAndIsDeletedFalse(anyCollection());
+    }
+
+    private Product product(Long id, Long basePrice) {
+        Product product = Product.builder().name("상품 " + id).basePrice(basePrice).build();
+        ReflectionTestUtils.setField(product, "id", id);
+        products.add(product);
+        return product;
+    }
+
+    private OptionGroup group(Long id, Product product, boolean mandatory) {
+        OptionGroup group = OptionGroup.builder()
+                .name("옵션 그룹 " + id)
+                .isMandatory(mandatory)
+                .maxSelectCount(1)
+                .build();
+        ReflectionTestUtils.setField(group, "id", id);
+        group.assignProduct(product);
+        optionGroups.add(group);
+        return group;
+    }
+
+    private void detail(Long id, OptionGroup group, Long price) {
+        OptionDetail detail = OptionDetail.builder().name("옵션 " + id).price(price).build();
+        ReflectionTestUtils.setField(detail, "id", id);
+        detail.assignOptionGroup(group);
+        optionDetails.add(detail);
+    }
+
+    private static ProductQuoteBatchItemDTO item(Long productId, ProductQuoteSelectionDTO... selections) {
+        return new ProductQuoteBatchItemDTO(productId, Arrays.asList(selections));
+    }
+}
@@ -0,0 +1,78 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.api.product.event.ItemGroupPriceChangedEvent;
+import com.wedit.backend.api.product.repository.OptionDetailRepository;
+import com.wedit.backend.api.product.repository.OptionGroupRepository;
+import com.wedit.backend.api.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductQuoteServiceTest {
+
+    private ProductRepository productRepository;
+    private OptionGroupRepository optionGroupRepository;
+    private ProductQuoteService service;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        optionGroupRepository = mock(OptionGroupRepository.class);
+
+        Product product = Product.builder().name("스튜디오 촬영").basePrice(500_000L).build();
+        ReflectionTestUtils.setField(product, "id", 1L);
+        when(productRepository.findByIdInAndIsVisibleTrueAndIsDeletedFalse(anyCollection())).thenReturn(List.of(product));
+        when(optionGroupRepository.findByProductIdInOrderByOrdering(any())).thenReturn(List.of());
+        when(optionGroupRepository.findProductIdById(10L)).thenReturn(Optional.of(1L));
+
+        service = new ProductQuoteService(productRepository, optionGroupRepository, mock(OptionDetailRepository.class),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 100L, 60L, 60L);
+    }
+
+    @Test
+    void 캐시에_적재된_가격표는_다시_조회하지_않는다() {
+        ProductPriceTable first = service.getPriceTable(1L);
+
+        assertThat(service.getPriceTable(1L)).isSameAs(first);
+        verify(productRepository, times(1)).findByIdInAndIsVisibleTrueAndIsDeletedFalse(anyCollection());
+    }
+
+    @Test
+    void 상품_ID_가_있는_이벤트는_추가_조회_없이_가격표를_무효화한다() {
+        ProductPriceTable first = service.getPriceTable(1L);
+
+        service.onPriceChanged(new ItemGroupPriceChangedEvent(null, 1L, 10L));
+
+        assertThat(service.getPriceTable(1L)).isNotSameAs(first);
+        verify(optionGroupRepository, never()).findProductIdById(any());
+    }
+
+    @Test
+    void 옵션_그룹_기준_이벤트는_같은_옵션_그룹의_상품_ID_를_한_번만_조회한다() {
+        ProductPriceTable first = service.getPriceTable(1L);
+
+        service.onPriceChanged(new ItemGroupPriceChangedEvent(null, null, 10L));
+        ProductPriceTable second = service.getPriceTable(1L);
+        service.onPriceChanged(new ItemGroupPriceChangedEvent(null, null, 10L));
+        service.onPriceChanged(new ItemGroupPriceChangedEvent(null, null, 10L));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(service.getPriceTable(1L)).isNotSameAs(second);
+        verify(optionGroupRepository, times(1)).findProductIdById(10L);
+    }
+}
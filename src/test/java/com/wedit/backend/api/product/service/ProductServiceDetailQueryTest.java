@@ -0,0 +1,165 @@
+package com.wedit.backend.api.product.service;
+
+import com.wedit.backend.api.agency.entity.Agency;
+import com.wedit.backend.api.product.dto.ProductDetailResponseDTO;
+import com.wedit.backend.api.product.entity.ItemGroup;
+import com.wedit.backend.api.product.entity.OptionDetail;
+import com.wedit.backend.api.product.entity.OptionGroup;
+import com.wedit.backend.api.product.entity.Product;
+import com.wedit.backend.api.product.entity.ProductMedia;
+import com.wedit.backend.api.vendor.entity.Vendor;
+import com.wedit.backend.api.vendor.entity.VendorCategory;
+import com.wedit.backend.common.exception.NotFoundException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// 상품 상세 조회 쿼리 수 / 삭제된 아이템 그룹 제외 검증 (H2 MySQL 호환 모드)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:product-detail;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductService.class)
+class ProductServiceDetailQueryTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 50, 500})
+    void 옵션_그룹과_상세_수와_무관하게_4번의_쿼리로_조회한다(int detailCount) {
+        Product product = persistProduct(3, detailCount, 4);
+        clear();
+
+        ProductDetailResponseDTO response = productService.getProductDetail(product.getId());
+
+        // 상품+아이템 그룹+업체 / 옵션 그룹 / 옵션 상세 IN / 미디어
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(response.optionGroups()).hasSize(3)
+                .allSatisfy(group -> assertThat(group.optionDetails()).hasSize(detailCount));
+        assertThat(response.mediaList()).hasSize(4);
+        assertThat(response.tags()).containsExactly("야외", "스냅");
+    }
+
+    @Test
+    void 옵션_그룹이_없으면_옵션_상세는_조회하지_않는다() {
+        Product product = persistProduct(0, 0, 0);
+        clear();
+
+        ProductDetailResponseDTO response = productService.getProductDetail(product.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(response.optionGroups()).isEmpty();
+        assertThat(response.mediaList()).isEmpty();
+    }
+
+    @Test
+    void 삭제된_아이템_그룹의_상품은_조회되지_않는다() {
+        Product product = persistProduct(1, 1, 0);
+        product.getItemGroup().delete();
+        clear();
+
+        assertThatThrownBy(() -> productService.getProductDetail(product.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void 태그가_null_이면_빈_목록으로_응답한다() {
+        Product product = persistProduct(0, 0, 0);
+        entityManager.createNativeQuery("update products set tags = null where id = :id")
+                .setParameter("id", product.getId())
+                .executeUpdate();
+        clear();
+
+        ProductDetailResponseDTO response = productService.getProductDetail(product.getId());
+
+        assertThat(response.tags()).isEmpty();
+    }
+
+    private Product persistProduct(int optionGroupCount, int detailCount, int mediaCount) {
+        Vendor vendor = Vendor.builder()
+                .name("웨딧 스튜디오")
+                .category(VendorCategory.values()[0])
+                .region("서울")
+                .fullAddress("서울특별시 강남구 테헤란로 1")
+                .build();
+        entityManager.persist(vendor);
+
+        ItemGroup itemGroup = ItemGroup.builder()
+                .vendor(vendor)
+                .name("본식 스냅")
+                .build();
+        entityManager.persist(itemGroup);
+
+        Agency agency = Agency.builder().name("웨딧").build();
+        entityManager.persist(agency);
+
+        Product product = Product.builder()
+                .itemGroup(itemGroup)
+                .agency(agency)
+                .name("기본 패키지")
+                .basePrice(1_000_000L)
+                .tags(List.of("야외", "스냅"))
+                .build();
+        product.publish();
+
+        for (int i = 0; i < optionGroupCount; i++) {
+            OptionGroup optionGroup = OptionGroup.builder()
+                    .name("옵션 그룹 " + i)
+                    .isMandatory(false)
+                    .ordering(i)
+                    .build();
+            for (int j = 0; j < detailCount; j++) {
+                OptionDetail optionDetail = OptionDetail.builder()
+                        .name("옵션 " + i + "-" + j)
+                        .price(10_000L * (j + 1))
+                        .ordering(j)
+                        .build();
+                optionGroup.addOptionDetail(optionDetail);
+            }
+            product.addOptionGroup(optionGroup);
+        }
+        for (int i = 0; i < mediaCount; i++) {
+            product.addMedia(ProductMedia.builder()
+                    .fileKey("products/" + i + ".jpg")
+                    .url("https://cdn.example.com/products/" + i + ".jpg")
+                    .ordering(i)
+                    .build());
+        }
+
+        entityManager.persist(product);
+        return product;
+    }
+
+    // 영속성 컨텍스트를 비워 조회 시 실제 쿼리가 실행되도록 하고, 준비 단계의 통계는 제외
+    private void clear() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
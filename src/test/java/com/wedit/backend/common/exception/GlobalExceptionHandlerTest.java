@@ -0,0 +1,31 @@
+package com.wedit.backend.common.exception;
+
+import com.wedit.backend.common.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void 예외에_지정된_상태_코드와_메시지로_응답한다() {
+        ResponseEntity<ApiResponse<Void>> response = handler.handleBaseException(new NotFoundException("존재하지 않는 상품입니다."));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getStatus()).isEqualTo(404);
+        assertThat(response.getBody().isSuccess()).isFalse();
+        assertThat(response.getBody().getMessage()).isEqualTo("존재하지 않는 상품입니다.");
+    }
+
+    @Test
+    void 메시지가_없으면_상태_코드의_기본_문구로_응답한다() {
+        ResponseEntity<ApiResponse<Void>> response = handler.handleBaseException(new BadRequestException());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo(HttpStatus.BAD_REQUEST.getReasonPhrase());
+    }
+}
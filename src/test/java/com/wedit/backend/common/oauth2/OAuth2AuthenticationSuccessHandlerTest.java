@@ -0,0 +1,92 @@
+package com.wedit.backend.common.oauth2;
+
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.jwt.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/// 소셜 로그인 성공 처리 시 principal 타입에 따른 토큰 발급 / 실패 위임 검증
+class OAuth2AuthenticationSuccessHandlerTest {
+
+    private static final String REDIRECT_URI = "http://localhost:3000/oauth2/redirect";
+
+    private JwtService jwtService;
+    private OAuth2AuthenticationFailureHandler failureHandler;
+    private OAuth2AuthenticationSuccessHandler successHandler;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = mock(JwtService.class);
+        failureHandler = mock(OAuth2AuthenticationFailureHandler.class);
+        successHandler = new OAuth2AuthenticationSuccessHandler(jwtService, failureHandler);
+        ReflectionTestUtils.setField(successHandler, "redirectUri", REDIRECT_URI);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 회원이_확정된_principal_이면_토큰을_담아_리다이렉트한다() throws Exception {
+        Member member = Member.builder().email("user@wedit.com").name("사용자").role(Role.ROLE_USER).build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        OAuthAttributes attributes = OAuthAttributes.of("kakao", "id",
+                Map.of("id", 12345L, "kakao_account", Map.of("email", "user@wedit.com", "profile", Map.of())));
+        when(jwtService.createAccessToken(1L, "user@wedit.com", Role.ROLE_USER)).thenReturn("access");
+        when(jwtService.createRefreshToken(1L)).thenReturn("refresh");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        successHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response,
+                new TestingAuthenticationToken(OAuth2MemberPrincipal.of(member, attributes), null));
+
+        assertThat(response.getRedirectedUrl()).isEqualTo(REDIRECT_URI + "?token=access&refresh=refresh");
+        verify(failureHandler, never()).onAuthenticationFailure(any(), any(), any());
+    }
+
+    @Test
+    void OIDC_사용자_principal_은_토큰을_발급하지_않고_실패_핸들러에_위임한다() throws Exception {
+        OidcIdToken idToken = new OidcIdToken("id-token", Instant.now(), Instant.now().plusSeconds(60),
+                Map.of("sub", "google-1"));
+        DefaultOidcUser oidcUser = new DefaultOidcUser(List.of(new OidcUserAuthority(idToken)), idToken);
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken(oidcUser, null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        successHandler.onAuthenticationSuccess(request, response, authentication);
+
+        ArgumentCaptor<OAuth2AuthenticationException> exception =
+                ArgumentCaptor.forClass(OAuth2AuthenticationException.class);
+        verify(failureHandler).onAuthenticationFailure(eq(request), eq(response), exception.capture());
+        assertThat(exception.getValue().getError().getErrorCode()).isEqualTo("unsupported_principal");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtService, never()).createAccessToken(anyLong(), any(), any());
+        verify(jwtService, never()).createRefreshToken(anyLong());
+    }
+}
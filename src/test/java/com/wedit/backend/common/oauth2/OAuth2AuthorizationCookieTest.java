@@ -0,0 +1,154 @@
+package com.wedit.backend.common.oauth2;
+
+import com.wedit.backend.api.member.controller.MemberController;
+import com.wedit.backend.api.member.jwt.filter.FilterExceptionHandler;
+import com.wedit.backend.api.member.jwt.service.JwtService;
+import com.wedit.backend.api.member.jwt.service.TokenRevocationService;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import com.wedit.backend.api.member.service.MemberPrincipalCacheService;
+import com.wedit.backend.api.member.service.MemberService;
+import com.wedit.backend.common.config.jwt.JwtConfig;
+import com.wedit.backend.common.config.security.SecurityConfig;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/// 소셜 로그인 시작 시 HttpSession 없이 서명된 인가 요청 쿠키만 발급되는지 검증
+@WebMvcTest(controllers = MemberController.class, properties = {
+        "jwt.secretKey=d2VkaXQtb2F1dGgyLWNvb2tpZS10ZXN0LXNlY3JldC1rZXktMDEyMzQ1Njc4OQ==",
+        "jwt.access.header=Authorization",
+        "spring.security.oauth2.client.registration.kakao.client-id=kakao-client",
+        "spring.security.oauth2.client.registration.kakao.client-secret=kakao-secret",
+        "spring.security.oauth2.client.registration.kakao.authorization-grant-type=authorization_code",
+        "spring.security.oauth2.client.registration.kakao.redirect-uri={baseUrl}/login/oauth2/code/{registrationId}",
+        "spring.security.oauth2.client.registration.kakao.scope=profile_nickname",
+        "spring.security.oauth2.client.provider.kakao.authorization-uri=https://kauth.kakao.com/oauth/authorize",
+        "spring.security.oauth2.client.provider.kakao.token-uri=https://kauth.kakao.com/oauth/token",
+        "spring.security.oauth2.client.provider.kakao.user-info-uri=https://kapi.kakao.com/v2/user/me",
+        "spring.security.oauth2.client.provider.kakao.user-name-attribute=id"
+})
+@Import({SecurityConfig.class, JwtConfig.class, FilterExceptionHandler.class,
+        HttpCookieOAuth2AuthorizationRequestRepository.class})
+class OAuth2AuthorizationCookieTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockitoBean
+    private MemberPrincipalCacheService memberPrincipalCacheService;
+
+    @MockitoBean
+    private OAuth2UserService oAuth2UserService;
+
+    @MockitoBean
+    private OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+
+    @MockitoBean
+    private OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
+
+    @Test
+    void 인가_요청은_세션_없이_서명된_쿠키로만_저장된다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/oauth2/authorization/kakao"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+
+        List<String> setCookies = result.getResponse().getHeaders(HttpHeaders.SET_COOKIE);
+        assertThat(setCookies).noneMatch(header -> header.startsWith("JSESSIONID="));
+        assertThat(result.getRequest().getSession(false)).isNull();
+
+        String cookieValue = authorizationCookieValue(setCookies);
+        assertThat(cookieValue).contains(".");
+        assertThat(setCookies).anySatisfy(header -> assertThat(header)
+                .startsWith(HttpCookieOAuth2AuthorizationRequestRepository.COOKIE_NAME + "=")
+                .contains("HttpOnly")
+                .contains("Secure"));
+
+        // 쿠키에서 복원한 인가 요청의 state 가 실제 리다이렉트 state 와 일치
+        OAuth2AuthorizationRequest restored = authorizationRequestRepository.loadAuthorizationRequest(requestWith(cookieValue));
+        String redirectState = UriComponentsBuilder.fromUriString(result.getResponse().getRedirectedUrl())
+                .build()
+                .getQueryParams()
+                .getFirst("state");
+        assertThat(restored).isNotNull();
+        assertThat(restored.getClientId()).isEqualTo("kakao-client");
+        assertThat(restored.getState()).isNotBlank();
+        assertThat(redirectState).isNotNull();
+        assertThat(URLDecoder.decode(redirectState, StandardCharsets.UTF_8))
+                .isEqualTo(restored.getState());
+    }
+
+    @Test
+    void 서명이_변조된_쿠키는_무시된다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/oauth2/authorization/kakao")).andReturn();
+        String cookieValue = authorizationCookieValue(result.getResponse().getHeaders(HttpHeaders.SET_COOKIE));
+
+        int separator = cookieValue.lastIndexOf('.');
+        String payload = cookieValue.substring(0, separator);
+        String signature = cookieValue.substring(separator + 1);
+
+        // 다른 키로 서명한 것과 같은 임의 서명
+        String forgedSignature = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[32]);
+        // 원래 서명을 유지한 채 payload 만 변경
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"clientId\":\"attacker\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(authorizationRequestRepository.loadAuthorizationRequest(requestWith(payload + "." + forgedSignature)))
+                .isNull();
+        assertThat(authorizationRequestRepository.loadAuthorizationRequest(requestWith(forgedPayload + "." + signature)))
+                .isNull();
+        assertThat(authorizationRequestRepository.loadAuthorizationRequest(requestWith(cookieValue)))
+                .isNotNull();
+    }
+
+    private static String authorizationCookieValue(List<String> setCookies) {
+        String prefix = HttpCookieOAuth2AuthorizationRequestRepository.COOKIE_NAME + "=";
+        return setCookies.stream()
+                .filter(header -> header.startsWith(prefix))
+                .map(header -> header.substring(prefix.length(), header.indexOf(';')))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("인가 요청 쿠키가 발급되지 않았습니다."));
+    }
+
+    private static MockHttpServletRequest requestWith(String cookieValue) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(HttpCookieOAuth2AuthorizationRequestRepository.COOKIE_NAME, cookieValue));
+        return request;
+    }
+}
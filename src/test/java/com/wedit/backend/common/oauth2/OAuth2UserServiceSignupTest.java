@@ -0,0 +1,131 @@
+package com.wedit.backend.common.oauth2;
+
+import com.wedit.backend.api.member.entity.Member;
+import com.wedit.backend.api.member.entity.Role;
+import com.wedit.backend.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// 소셜 최초 로그인 가입 경합 / 탈퇴 회원 재가입 검증 (H2 MySQL 호환 모드)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:oauth2-signup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OAuth2UserService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OAuth2UserServiceSignupTest {
+
+    @Autowired
+    private OAuth2UserService oAuth2UserService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 같은_소셜_계정으로_동시에_최초_로그인해도_회원은_1명만_생성된다() {
+        int requests = 2;
+        CyclicBarrier barrier = new CyclicBarrier(requests);
+
+        List<CompletableFuture<Long>> futures = IntStream.range(0, requests)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(barrier);
+                    return transactionTemplate.execute(status ->
+                            oAuth2UserService.saveOrUpdate(kakao("12345", "user@kakao.com")).getId());
+                }))
+                .toList();
+
+        List<Long> memberIds = futures.stream().map(CompletableFuture::join).toList();
+
+        assertThat(memberRepository.count()).isEqualTo(1);
+        assertThat(memberIds).containsOnly(memberRepository.findByOauthId("kakao_12345").orElseThrow().getId());
+    }
+
+    @Test
+    void 탈퇴한_소셜_계정으로_다시_로그인하면_탈퇴_회원_오류를_반환한다() {
+        Member withdrawn = memberRepository.save(Member.builder()
+                .email("withdrawn@kakao.com")
+                .password("OAUTH_USER")
+                .oauthId("kakao_777")
+                .name("withdrawn")
+                .role(Role.ROLE_USER)
+                .build());
+        transactionTemplate.executeWithoutResult(status ->
+                memberRepository.findById(withdrawn.getId()).orElseThrow().markDeleted());
+
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+                oAuth2UserService.saveOrUpdate(kakao("777", "withdrawn@kakao.com"))))
+                .isInstanceOfSatisfying(OAuth2AuthenticationException.class, e ->
+                        assertThat(e.getError().getErrorCode()).isEqualTo("withdrawn_member"));
+        assertThat(memberRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_이메일로_다른_방식으로_가입된_회원이_있으면_계정_충돌_오류를_반환한다() {
+        memberRepository.save(Member.builder()
+                .email("user@wedit.com")
+                .password("{bcrypt}hash")
+                .name("user")
+                .role(Role.ROLE_USER)
+                .build());
+
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+                oAuth2UserService.saveOrUpdate(kakao("999", "user@wedit.com"))))
+                .isInstanceOfSatisfying(OAuth2AuthenticationException.class, e ->
+                        assertThat(e.getError().getErrorCode()).isEqualTo("account_conflict"));
+        assertThat(memberRepository.count()).isEqualTo(1);
+    }
+
+    private static OAuthAttributes kakao(String socialId, String email) {
+        return OAuthAttributes.builder()
+                .attributes(Map.of("id", socialId))
+                .nameAttributeKey("id")
+                .name("kakao-user")
+                .email(email)
+                .socialProvider("kakao")
+                .socialId(socialId)
+                .build();
+    }
+
+    private static void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}